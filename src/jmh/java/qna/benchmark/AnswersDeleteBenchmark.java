@@ -0,0 +1,47 @@
+package qna.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import qna.domain.Answer;
+import qna.domain.Answers;
+import qna.domain.DeleteHistory;
+import qna.domain.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Answers.delete 의 stream 구현과 같은 일을 하는 for 문의 차이.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class AnswersDeleteBenchmark {
+    @Param({"10", "1000", "100000"})
+    private int answerCount;
+
+    private User writer;
+    private List<Answer> values;
+    private Answers answers;
+
+    @Setup
+    public void setUp() {
+        writer = Fixtures.user(1L);
+        values = Fixtures.answers(writer, answerCount);
+        answers = new Answers(values);
+    }
+
+    @Benchmark
+    public List<DeleteHistory> stream() {
+        return answers.delete(writer);
+    }
+
+    @Benchmark
+    public List<DeleteHistory> loop() {
+        List<DeleteHistory> deleteHistories = new ArrayList<>(values.size());
+        for (Answer answer : values) {
+            deleteHistories.add(answer.delete(writer));
+        }
+        return deleteHistories;
+    }
+}
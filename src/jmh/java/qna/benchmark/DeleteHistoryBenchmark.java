@@ -0,0 +1,34 @@
+package qna.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import qna.domain.Answer;
+import qna.domain.DeleteHistory;
+import qna.domain.Question;
+import qna.domain.User;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class DeleteHistoryBenchmark {
+    private Question question;
+    private Answer answer;
+
+    @Setup
+    public void setUp() {
+        User writer = Fixtures.user(1L);
+        question = Fixtures.question(1L, writer);
+        answer = Fixtures.answer(1L, question, writer);
+    }
+
+    @Benchmark
+    public DeleteHistory fromQuestion() {
+        return DeleteHistory.from(question);
+    }
+
+    @Benchmark
+    public DeleteHistory fromAnswer() {
+        return DeleteHistory.from(answer);
+    }
+}
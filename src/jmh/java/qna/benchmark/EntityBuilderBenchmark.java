@@ -0,0 +1,38 @@
+package qna.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import qna.domain.Answer;
+import qna.domain.Question;
+import qna.domain.User;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lombok builder 를 통한 엔티티 생성 비용. 답변은 생성자에서 질문의 답변 목록에 추가되므로 매번 새 질문과 함께 만든다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class EntityBuilderBenchmark {
+    private User writer;
+
+    @Setup
+    public void setUp() {
+        writer = Fixtures.user(1L);
+    }
+
+    @Benchmark
+    public User user() {
+        return Fixtures.user(2L);
+    }
+
+    @Benchmark
+    public Question question() {
+        return Fixtures.question(1L, writer);
+    }
+
+    @Benchmark
+    public Answer questionWithAnswer() {
+        return Fixtures.answer(1L, Fixtures.question(1L, writer), writer);
+    }
+}
@@ -0,0 +1,53 @@
+package qna.benchmark;
+
+import qna.domain.Answer;
+import qna.domain.Question;
+import qna.domain.User;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class Fixtures {
+    private Fixtures() {
+    }
+
+    static User user(long id) {
+        return User.builder()
+                .id(id)
+                .userId("user" + id)
+                .password("password")
+                .name("name" + id)
+                .email("user" + id + "@slipp.net")
+                .build();
+    }
+
+    static Question question(long id, User writer) {
+        return Question.builder()
+                .id(id)
+                .title("title" + id)
+                .contents("contents" + id)
+                .writer(writer)
+                .build();
+    }
+
+    static Question questionWithAnswers(User writer, int answerCount) {
+        Question question = question(1L, writer);
+        for (int i = 0; i < answerCount; i++) {
+            answer(i + 1L, question, writer);
+        }
+        return question;
+    }
+
+    static Answer answer(long id, Question question, User writer) {
+        return Answer.builder()
+                .id(id)
+                .question(question)
+                .writer(writer)
+                .contents("answer contents" + id)
+                .build();
+    }
+
+    static List<Answer> answers(User writer, int answerCount) {
+        return new ArrayList<>(questionWithAnswers(writer, answerCount).getAnswers().getValues());
+    }
+}
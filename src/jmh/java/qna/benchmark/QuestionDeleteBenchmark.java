@@ -0,0 +1,34 @@
+package qna.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import qna.domain.DeleteHistory;
+import qna.domain.Question;
+import qna.domain.User;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 답변 수에 따른 Question.delete 비용. 삭제는 상태만 바꾸므로 같은 질문을 반복해서 삭제해도 매번 같은 일을 한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class QuestionDeleteBenchmark {
+    @Param({"0", "10", "1000", "100000"})
+    private int answerCount;
+
+    private User writer;
+    private Question question;
+
+    @Setup
+    public void setUp() {
+        writer = Fixtures.user(1L);
+        question = Fixtures.questionWithAnswers(writer, answerCount);
+    }
+
+    @Benchmark
+    public List<DeleteHistory> delete() {
+        return question.delete(writer);
+    }
+}
@@ -0,0 +1,86 @@
+package qna.benchmark;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.*;
+import qna.domain.User;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티와 Hibernate 프록시의 User.equals/hashCode 비용.
+ * 프록시는 equals/hashCode 호출 시 초기화되므로, 측정 전에 한 번 초기화해 두고 위임 비용만 잰다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class UserEqualsBenchmark {
+    private static final long USER_ID = 1L;
+
+    private SessionFactory sessionFactory;
+    private Session session;
+    private User entity;
+    private User sameIdEntity;
+    private User proxy;
+
+    @Setup
+    public void setUp() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.URL, "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.USER, "sa")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(User.class)
+                .buildMetadata()
+                .buildSessionFactory();
+        session = sessionFactory.openSession();
+        Transaction transaction = session.beginTransaction();
+        session.createNativeQuery("insert into user (id, created_at, user_id, password, name, email) " +
+                                          "values (?1, current_timestamp, 'user1', 'password', 'name1', 'user1@slipp.net')")
+                .setParameter(1, USER_ID)
+                .executeUpdate();
+        transaction.commit();
+
+        entity = Fixtures.user(USER_ID);
+        sameIdEntity = Fixtures.user(USER_ID);
+        proxy = session.getReference(User.class, USER_ID);
+        proxy.hashCode();
+    }
+
+    @TearDown
+    public void tearDown() {
+        session.close();
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public boolean entityEquals() {
+        return entity.equals(sameIdEntity);
+    }
+
+    @Benchmark
+    public int entityHashCode() {
+        return entity.hashCode();
+    }
+
+    @Benchmark
+    public boolean proxyEquals() {
+        return proxy.equals(entity);
+    }
+
+    @Benchmark
+    public boolean entityEqualsProxy() {
+        return entity.equals(proxy);
+    }
+
+    @Benchmark
+    public int proxyHashCode() {
+        return proxy.hashCode();
+    }
+}
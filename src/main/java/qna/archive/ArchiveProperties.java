@@ -0,0 +1,16 @@
+package qna.archive;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "qna.archive")
+@Getter
+@Setter
+public class ArchiveProperties {
+    private boolean enabled = true;
+    private Duration retention = Duration.ofDays(30);
+    private int batchSize = 500;
+}
@@ -0,0 +1,56 @@
+package qna.archive;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import qna.domain.Answer;
+import qna.domain.AnswerArchive;
+import qna.domain.ContentType;
+import qna.domain.Question;
+import qna.domain.QuestionArchive;
+import qna.exception.NotFoundException;
+import qna.repository.AnswerArchiveRepository;
+import qna.repository.AnswerRepository;
+import qna.repository.QuestionArchiveRepository;
+import qna.repository.QuestionRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 보관 테이블로 옮겨진 질문과 답변을 조회한다.
+ * 삭제 이력의 contentId 로 내용을 찾을 때는 아직 옮겨지지 않은 삭제 행과 보관 테이블을 모두 찾아본다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ArchivedContentService {
+    private final QuestionArchiveRepository questionArchiveRepository;
+    private final AnswerArchiveRepository answerArchiveRepository;
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+
+    public QuestionArchive findQuestion(Long id) {
+        return questionArchiveRepository.findById(id)
+                .orElseThrow(NotFoundException::new);
+    }
+
+    public List<AnswerArchive> findAnswers(Long questionId) {
+        return answerArchiveRepository.findByQuestionIdOrderById(questionId);
+    }
+
+    public Optional<String> findDeletedContents(ContentType contentType, Long contentId) {
+        if (contentType == ContentType.QUESTION) {
+            Optional<String> deleted = questionRepository.findById(contentId)
+                    .filter(Question::isDeleted)
+                    .map(Question::getContents);
+            return deleted.isPresent() ? deleted : questionArchiveRepository.findById(contentId)
+                    .map(QuestionArchive::getContents);
+        }
+        Optional<String> deleted = answerRepository.findById(contentId)
+                .filter(Answer::isDeleted)
+                .map(Answer::getContents);
+        return deleted.isPresent() ? deleted : answerArchiveRepository.findById(contentId)
+                .map(AnswerArchive::getContents);
+    }
+}
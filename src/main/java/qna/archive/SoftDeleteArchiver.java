@@ -0,0 +1,137 @@
+package qna.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 삭제된 지 retention 이 지난 질문과 답변을 question_archive, answer_archive 로 batchSize 개씩 옮긴다.
+ * <p>
+ * 원래 id 를 그대로 쓰므로 delete_history 의 contentId 는 옮긴 뒤에도 같은 내용을 가리킨다.
+ * 질문은 살아 있는 답변이 없을 때만 옮기고, 그 질문의 삭제된 답변도 같은 트랜잭션에서 함께 옮긴다.
+ * 후보를 고른 뒤 배치 트랜잭션이 시작되기 전에 답변이 달릴 수 있으므로, 배치 안에서 질문 행을 잠그고 조건을 다시 확인한다.
+ * 답변 추가는 질문 행의 answer_count 를 먼저 올리므로 잠근 뒤에는 새 답변이 끼어들 수 없다.
+ * 각 배치는 한 트랜잭션이므로 중간에 종료되어도 일부만 옮겨진 행은 남지 않는다.
+ * <p>
+ * soft-delete 는 deleted 와 updated_at 을 함께 바꾸고 삭제된 행은 더 이상 수정되지 않으므로,
+ * 삭제 시각은 updated_at 으로 판단하고 보관 테이블의 deleted_at 에도 updated_at 을 옮겨 적는다.
+ */
+@Slf4j
+@Component
+public class SoftDeleteArchiver {
+    private static final String SELECT_QUESTION_IDS = "select q.id from question q " +
+            "where q.deleted = true and q.updated_at < :deletedBefore and q.id > :afterId " +
+            "and not exists (select 1 from answer a where a.question_id = q.id and a.deleted = false) " +
+            "order by q.id limit :limit";
+    private static final String SELECT_ANSWER_IDS = "select a.id from answer a " +
+            "where a.deleted = true and a.updated_at < :deletedBefore and a.id > :afterId " +
+            "order by a.id limit :limit";
+    private static final String LOCK_QUESTIONS = "select id from question where id in (:ids) and deleted = true for update";
+    private static final String SELECT_ARCHIVABLE_QUESTION_IDS = "select q.id from question q " +
+            "where q.id in (:ids) and q.deleted = true " +
+            "and not exists (select 1 from answer a where a.question_id = q.id and a.deleted = false)";
+    private static final String ARCHIVE_ANSWERS_OF_QUESTIONS = "insert into answer_archive " +
+            "(id, question_id, writer_id, contents, created_at, deleted_at, archived_at) " +
+            "select id, question_id, writer_id, contents, created_at, updated_at, :archivedAt " +
+            "from answer where question_id in (:ids) and deleted = true";
+    private static final String DELETE_ANSWERS_OF_QUESTIONS = "delete from answer where question_id in (:ids) and deleted = true";
+    private static final String ARCHIVE_QUESTIONS = "insert into question_archive " +
+            "(id, title, contents, writer_id, created_at, deleted_at, archived_at) " +
+            "select id, title, contents, writer_id, created_at, updated_at, :archivedAt " +
+            "from question where id in (:ids) and deleted = true";
+    private static final String DELETE_QUESTIONS = "delete from question where id in (:ids) and deleted = true";
+    private static final String ARCHIVE_ANSWERS = "insert into answer_archive " +
+            "(id, question_id, writer_id, contents, created_at, deleted_at, archived_at) " +
+            "select id, question_id, writer_id, contents, created_at, updated_at, :archivedAt " +
+            "from answer where id in (:ids) and deleted = true";
+    private static final String DELETE_ANSWERS = "delete from answer where id in (:ids) and deleted = true";
+
+    private final ArchiveProperties properties;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public SoftDeleteArchiver(ArchiveProperties properties,
+                              NamedParameterJdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${qna.archive.cron:0 0 5 * * *}")
+    public void archive() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        int archived = archive(LocalDateTime.now().minus(properties.getRetention()));
+        log.info("삭제된 질문과 답변 {}건을 보관 테이블로 옮겼습니다.", archived);
+    }
+
+    public int archive(LocalDateTime deletedBefore) {
+        return archiveBatches(SELECT_QUESTION_IDS, deletedBefore, this::archiveQuestions)
+                + archiveBatches(SELECT_ANSWER_IDS, deletedBefore, this::archiveAnswers);
+    }
+
+    private int archiveBatches(String selectIds, LocalDateTime deletedBefore, BatchArchiver batchArchiver) {
+        int archived = 0;
+        long afterId = 0L;
+        while (true) {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("deletedBefore", Timestamp.valueOf(deletedBefore))
+                    .addValue("afterId", afterId)
+                    .addValue("limit", properties.getBatchSize());
+            List<Long> ids = jdbcTemplate.queryForList(selectIds, params, Long.class);
+            if (ids.isEmpty()) {
+                return archived;
+            }
+
+            Integer moved = transactionTemplate.execute(status -> batchArchiver.archive(ids, LocalDateTime.now()));
+            archived += Objects.requireNonNull(moved);
+            afterId = ids.get(ids.size() - 1);
+            if (ids.size() < properties.getBatchSize()) {
+                return archived;
+            }
+        }
+    }
+
+    private int archiveQuestions(List<Long> candidateIds, LocalDateTime archivedAt) {
+        MapSqlParameterSource candidates = new MapSqlParameterSource("ids", candidateIds);
+        jdbcTemplate.queryForList(LOCK_QUESTIONS, candidates, Long.class);
+        List<Long> questionIds = jdbcTemplate.queryForList(SELECT_ARCHIVABLE_QUESTION_IDS, candidates, Long.class);
+        if (questionIds.isEmpty()) {
+            return 0;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", questionIds)
+                .addValue("archivedAt", Timestamp.valueOf(archivedAt));
+        int answers = jdbcTemplate.update(ARCHIVE_ANSWERS_OF_QUESTIONS, params);
+        jdbcTemplate.update(DELETE_ANSWERS_OF_QUESTIONS, params);
+        int questions = jdbcTemplate.update(ARCHIVE_QUESTIONS, params);
+        jdbcTemplate.update(DELETE_QUESTIONS, params);
+        return answers + questions;
+    }
+
+    private int archiveAnswers(List<Long> answerIds, LocalDateTime archivedAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", answerIds)
+                .addValue("archivedAt", Timestamp.valueOf(archivedAt));
+        int answers = jdbcTemplate.update(ARCHIVE_ANSWERS, params);
+        jdbcTemplate.update(DELETE_ANSWERS, params);
+        return answers;
+    }
+
+    @FunctionalInterface
+    private interface BatchArchiver {
+        int archive(List<Long> ids, LocalDateTime archivedAt);
+    }
+}
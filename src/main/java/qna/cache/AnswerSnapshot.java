@@ -0,0 +1,27 @@
+package qna.cache;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Getter
+@EqualsAndHashCode
+@ToString
+public class AnswerSnapshot {
+    private final Long id;
+    private final String contents;
+    private final WriterSnapshot writer;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public AnswerSnapshot(Long id, String contents, Long writerId, String writerUserId, String writerName,
+                          LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.contents = contents;
+        this.writer = new WriterSnapshot(writerId, writerUserId, writerName);
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
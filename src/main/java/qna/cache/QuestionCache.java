@@ -0,0 +1,46 @@
+package qna.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import qna.event.QuestionChangedEvent;
+
+/**
+ * 질문 id 별 {@link QuestionSnapshot} 캐시.
+ * <p>
+ * 변경된 질문은 트랜잭션이 커밋된 뒤 무효화한다. 로딩 중인 키를 무효화하면 Caffeine 이 로딩이 끝날 때까지 기다렸다가
+ * 제거하므로, 무효화 이전에 읽은 값이 캐시에 남지 않는다.
+ */
+@Component
+public class QuestionCache {
+    private final QuestionSnapshotLoader loader;
+    private final Cache<Long, QuestionSnapshot> cache;
+
+    public QuestionCache(QuestionCacheProperties properties, QuestionSnapshotLoader loader) {
+        this.loader = loader;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+    }
+
+    public QuestionSnapshot get(Long questionId) {
+        return cache.get(questionId, loader::load);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuestionChanged(QuestionChangedEvent event) {
+        if (event.isAll()) {
+            cache.invalidateAll();
+            return;
+        }
+        cache.invalidate(event.getQuestionId());
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,44 @@
+package qna.cache;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Getter
+@EqualsAndHashCode
+@ToString
+public class QuestionSnapshot {
+    private final Long id;
+    private final String title;
+    private final String contents;
+    private final WriterSnapshot writer;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final List<AnswerSnapshot> answers;
+
+    public QuestionSnapshot(Long id, String title, String contents, Long writerId, String writerUserId,
+                            String writerName, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, title, contents, new WriterSnapshot(writerId, writerUserId, writerName), createdAt, updatedAt,
+             Collections.emptyList());
+    }
+
+    private QuestionSnapshot(Long id, String title, String contents, WriterSnapshot writer, LocalDateTime createdAt,
+                             LocalDateTime updatedAt, List<AnswerSnapshot> answers) {
+        this.id = id;
+        this.title = title;
+        this.contents = contents;
+        this.writer = writer;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.answers = Collections.unmodifiableList(new ArrayList<>(answers));
+    }
+
+    public QuestionSnapshot withAnswers(List<AnswerSnapshot> answers) {
+        return new QuestionSnapshot(id, title, contents, writer, createdAt, updatedAt, answers);
+    }
+}
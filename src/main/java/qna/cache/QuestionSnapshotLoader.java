@@ -0,0 +1,22 @@
+package qna.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import qna.exception.NotFoundException;
+import qna.repository.AnswerRepository;
+import qna.repository.QuestionRepository;
+
+@Component
+@RequiredArgsConstructor
+public class QuestionSnapshotLoader {
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+
+    @Transactional(readOnly = true)
+    public QuestionSnapshot load(Long questionId) {
+        QuestionSnapshot question = questionRepository.findSnapshotById(questionId)
+                .orElseThrow(NotFoundException::new);
+        return question.withAnswers(answerRepository.findSnapshotsByQuestionId(questionId));
+    }
+}
@@ -0,0 +1,20 @@
+package qna.cache;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@EqualsAndHashCode
+@ToString
+public class WriterSnapshot {
+    private final Long id;
+    private final String userId;
+    private final String name;
+
+    public WriterSnapshot(Long id, String userId, String name) {
+        this.id = id;
+        this.userId = userId;
+        this.name = name;
+    }
+}
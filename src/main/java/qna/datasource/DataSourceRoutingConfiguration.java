@@ -0,0 +1,82 @@
+package qna.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.Objects;
+
+/**
+ * qna.datasource.routing.enabled 이면 spring.datasource 를 주 DB 로, qna.datasource.routing.replicas 를 복제본으로 쓰는
+ * DataSource 를 만든다. 이 DataSource 가 있으면 Spring Boot 는 DataSource 를 따로 만들지 않는다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "qna.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfiguration {
+
+    @Bean
+    public ReplicaPool replicaPool(DataSourceRoutingProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ReplicaPool(properties, metricsTrackerFactory(meterRegistry));
+    }
+
+    @Bean
+    public ReadAfterWriteTracker readAfterWriteTracker(DataSourceRoutingProperties properties) {
+        return new ReadAfterWriteTracker(properties);
+    }
+
+    @Bean
+    public ReadAfterWriteCallerAspect readAfterWriteCallerAspect() {
+        return new ReadAfterWriteCallerAspect();
+    }
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties dataSourceProperties,
+                                 ReplicaPool replicaPool,
+                                 ReadAfterWriteTracker readAfterWriteTracker,
+                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+        primary.setMetricsTrackerFactory(metricsTrackerFactory(meterRegistry));
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replicaPool, readAfterWriteTracker);
+        return new RoutingDataSource(routing, primary);
+    }
+
+    /**
+     * 주 DB 와 복제본 풀은 빈이 아니어서 Spring Boot 가 hikaricp.connections.* 지표를 붙이지 못하므로, 풀이 열리기 전에 직접 붙인다.
+     */
+    private static MetricsTrackerFactory metricsTrackerFactory(ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (Objects.isNull(registry)) {
+            return null;
+        }
+        return new MicrometerMetricsTrackerFactory(registry);
+    }
+
+    /**
+     * 커넥션을 첫 문장을 실행할 때 얻어 트랜잭션의 readOnly 여부로 대상을 고르게 하고, 종료할 때 주 DB 풀을 닫는다.
+     */
+    static class RoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+        private final HikariDataSource primary;
+
+        RoutingDataSource(ReadWriteRoutingDataSource routing, HikariDataSource primary) {
+            super(routing);
+            this.primary = primary;
+        }
+
+        @Override
+        public void close() {
+            primary.close();
+        }
+    }
+}
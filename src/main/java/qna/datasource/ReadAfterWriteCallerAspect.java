@@ -0,0 +1,39 @@
+package qna.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import qna.domain.User;
+
+import java.util.Objects;
+
+/**
+ * 로그인 사용자를 첫 인자로 받는 서비스 메서드 동안 그 사용자를 {@link ReadAfterWriteTracker} 의 호출자로 정한다.
+ * 트랜잭션보다 바깥에서 감싸 커밋 뒤의 기록도 같은 호출자로 남기고, 끝나면 바깥 호출의 호출자로 되돌린다.
+ * 저장되지 않은 사용자(게스트)는 현재 스레드를 호출자로 둔다.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReadAfterWriteCallerAspect {
+
+    @Around("within(qna..*) && @within(org.springframework.stereotype.Service) && execution(public * *(..)) " +
+            "&& args(loginUser, ..)")
+    public Object bindLoginUser(ProceedingJoinPoint joinPoint, User loginUser) throws Throwable {
+        if (Objects.isNull(loginUser) || Objects.isNull(loginUser.getId())) {
+            return joinPoint.proceed();
+        }
+        String previous = ReadAfterWriteTracker.boundCaller();
+        ReadAfterWriteTracker.bindCaller(ReadAfterWriteTracker.callerOf(loginUser));
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (Objects.isNull(previous)) {
+                ReadAfterWriteTracker.unbindCaller();
+            } else {
+                ReadAfterWriteTracker.bindCaller(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package qna.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import qna.domain.User;
+
+import java.util.Objects;
+
+/**
+ * 쓰기 트랜잭션을 커밋한 호출자를 readAfterWriteWindow 동안 기억한다. 그 사이의 읽기는 복제 지연을 피해 주 DB 로 보낸다.
+ * <p>
+ * 로그인 사용자를 받는 서비스 메서드에서는 {@link ReadAfterWriteCallerAspect} 가 그 사용자를 호출자로 정하고,
+ * 다른 진입점은 {@link #bindCaller(String)} 와 {@link #unbindCaller()} 로 직접 정한다.
+ * 정하지 않으면 현재 스레드를 호출자로 본다.
+ */
+public class ReadAfterWriteTracker {
+    private static final ThreadLocal<String> CALLER = new ThreadLocal<>();
+    private static final String THREAD_CALLER_PREFIX = "thread-";
+    private static final String USER_CALLER_PREFIX = "user-";
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadAfterWriteTracker(DataSourceRoutingProperties properties) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumTrackedCallers())
+                .expireAfterWrite(properties.getReadAfterWriteWindow())
+                .build();
+    }
+
+    public static void bindCaller(String caller) {
+        CALLER.set(caller);
+    }
+
+    public static void unbindCaller() {
+        CALLER.remove();
+    }
+
+    static String boundCaller() {
+        return CALLER.get();
+    }
+
+    public static String callerOf(User user) {
+        return USER_CALLER_PREFIX + user.getId();
+    }
+
+    static String currentCaller() {
+        String caller = CALLER.get();
+        if (Objects.isNull(caller)) {
+            return THREAD_CALLER_PREFIX + Thread.currentThread().getId();
+        }
+        return caller;
+    }
+
+    public void markWrite(String caller) {
+        recentWriters.put(caller, Boolean.TRUE);
+    }
+
+    public boolean hasRecentWrite(String caller) {
+        return Objects.nonNull(recentWriters.getIfPresent(caller));
+    }
+}
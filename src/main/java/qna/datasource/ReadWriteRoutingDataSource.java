@@ -0,0 +1,73 @@
+package qna.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 나머지는 주 DB 로 보낸다.
+ * <p>
+ * 트랜잭션의 readOnly 여부는 커넥션을 실제로 얻는 시점에 알 수 있으므로 LazyConnectionDataSourceProxy 뒤에 둔다.
+ * 쓰기 트랜잭션이 커밋되면 호출자를 {@link ReadAfterWriteTracker} 에 남겨, 잠시 동안은 그 호출자의 읽기도 주 DB 로 보낸다.
+ * 고른 복제본에서 커넥션을 얻지 못하면 그 복제본을 빼고 주 DB 커넥션을 돌려준다.
+ * 대상이 고정된 키 목록이 아니라 건강 상태에 따라 바뀌므로 AbstractRoutingDataSource 의 조회 키를 쓰지 않고 직접 고른다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+    private final DataSource primary;
+    private final ReplicaPool replicaPool;
+    private final ReadAfterWriteTracker tracker;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaPool replicaPool, ReadAfterWriteTracker tracker) {
+        this.primary = primary;
+        this.replicaPool = replicaPool;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Optional<ReplicaPool.Replica> replica = selectReplica();
+        if (replica.isPresent()) {
+            try {
+                return replica.get().getDataSource().getConnection();
+            } catch (SQLException | RuntimeException e) {
+                replicaPool.markDown(replica.get().getIndex());
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    private Optional<ReplicaPool.Replica> selectReplica() {
+        String caller = ReadAfterWriteTracker.currentCaller();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite(caller);
+            return Optional.empty();
+        }
+        if (tracker.hasRecentWrite(caller)) {
+            return Optional.empty();
+        }
+        return replicaPool.next();
+    }
+
+    private void trackWrite(String caller) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tracker.markWrite(caller);
+            }
+        });
+    }
+}
@@ -0,0 +1,120 @@
+package qna.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 읽기 전용 복제본 커넥션 풀 목록. 건강한 복제본을 라운드 로빈으로 고른다.
+ * <p>
+ * healthCheckInterval 마다 모든 복제본에 연결해 보고, 연결에 실패한 복제본은 다음 검사에서 살아날 때까지 고르지 않는다.
+ * 건강한 복제본이 하나도 없으면 빈 값을 돌려주어 호출한 쪽이 주 DB 를 쓰게 한다.
+ */
+@Slf4j
+public class ReplicaPool implements DisposableBean {
+    private final List<HikariDataSource> replicas;
+    private final AtomicReferenceArray<Boolean> healthy;
+    private final AtomicInteger next = new AtomicInteger();
+    private final int healthCheckTimeoutSeconds;
+    private final ScheduledExecutorService healthChecker;
+
+    public ReplicaPool(DataSourceRoutingProperties properties, MetricsTrackerFactory metricsTrackerFactory) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            replicas.add(newPool(properties.getReplicas().get(i), i, metricsTrackerFactory));
+        }
+        this.replicas = Collections.unmodifiableList(replicas);
+        this.healthy = new AtomicReferenceArray<>(replicas.size());
+        this.healthCheckTimeoutSeconds = (int) Math.max(1, properties.getHealthCheckTimeout().getSeconds());
+        checkHealth();
+
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getHealthCheckInterval().toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private static HikariDataSource newPool(DataSourceRoutingProperties.Replica replica, int index,
+                                            MetricsTrackerFactory metricsTrackerFactory) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica-" + index);
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername());
+        dataSource.setPassword(replica.getPassword());
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+        dataSource.setReadOnly(true);
+        dataSource.setMetricsTrackerFactory(metricsTrackerFactory);
+        return dataSource;
+    }
+
+    public Optional<Replica> next() {
+        int size = replicas.size();
+        for (int i = 0; i < size; i++) {
+            int index = Math.floorMod(next.getAndIncrement(), size);
+            if (Boolean.TRUE.equals(healthy.get(index))) {
+                return Optional.of(new Replica(index, replicas.get(index)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public void markDown(int index) {
+        if (Boolean.TRUE.equals(healthy.getAndSet(index, false))) {
+            log.warn("복제본 {}에 연결할 수 없어 읽기 대상에서 뺍니다.", replicas.get(index).getPoolName());
+        }
+    }
+
+    void checkHealth() {
+        for (int i = 0; i < replicas.size(); i++) {
+            HikariDataSource replica = replicas.get(i);
+            boolean up = isValid(replica);
+            Boolean previous = healthy.getAndSet(i, up);
+            if (up && Boolean.FALSE.equals(previous)) {
+                log.info("복제본 {}이(가) 살아나 다시 읽기 대상에 넣습니다.", replica.getPoolName());
+            } else if (!up && !Boolean.FALSE.equals(previous)) {
+                log.warn("복제본 {}에 연결할 수 없어 읽기 대상에서 뺍니다.", replica.getPoolName());
+            }
+        }
+    }
+
+    private boolean isValid(HikariDataSource replica) {
+        try (Connection connection = replica.getConnection()) {
+            return connection.isValid(healthCheckTimeoutSeconds);
+        } catch (SQLException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        healthChecker.shutdownNow();
+        replicas.forEach(HikariDataSource::close);
+    }
+
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Replica {
+        private final int index;
+        private final HikariDataSource dataSource;
+    }
+}
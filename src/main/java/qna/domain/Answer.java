@@ -4,6 +4,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import qna.exception.CannotDeleteException;
 import qna.exception.NotFoundException;
 import qna.exception.UnAuthorizedException;
@@ -12,16 +13,22 @@ import javax.persistence.*;
 import java.util.Objects;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "ix_answer_question_id_deleted", columnList = "question_id, deleted"),
+        @Index(name = "ix_answer_writer_id_deleted", columnList = "writer_id, deleted")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Answer extends BaseEntity {
-    private static final String ERROR_MESSAGE_EXISTS_OTHER_WRITER_ANSWER = "다른 사람이 쓴 답변이 있어 삭제할 수 없습니다.";
+    public static final String ERROR_MESSAGE_EXISTS_OTHER_WRITER_ANSWER = "다른 사람이 쓴 답변이 있어 삭제할 수 없습니다.";
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "answer_seq_generator")
+    @SequenceGenerator(name = "answer_seq_generator", sequenceName = "answer_seq", allocationSize = 50)
     private Long id;
 
     @Lob
+    @Basic(fetch = FetchType.LAZY)
     private String contents;
 
     @Column(nullable = false)
@@ -35,12 +42,21 @@ public class Answer extends BaseEntity {
     @JoinColumn(name = "question_id", foreignKey = @ForeignKey(name = "fk_answer_to_question"))
     private Question question;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
     public Answer(User writer, Question question, String contents) {
         this(null, writer, question, contents);
     }
 
     @Builder
     public Answer(Long id, User writer, Question question, String contents) {
+        this(id, writer, question, contents, true);
+    }
+
+    private Answer(Long id, User writer, Question question, String contents, boolean linkToQuestion) {
         this.id = id;
 
         if (Objects.isNull(writer)) {
@@ -53,10 +69,20 @@ public class Answer extends BaseEntity {
 
         this.writer = writer;
         this.question = question;
-        this.question.addAnswer(this);
+        if (linkToQuestion) {
+            this.question.addAnswer(this);
+        }
         this.contents = contents;
     }
 
+    /**
+     * 질문의 답변 컬렉션을 건드리지 않고 답변을 만든다.
+     * 질문이 프록시여도 초기화하지 않으므로, 답변이 많은 질문에도 일정한 비용으로 답변을 등록할 수 있다.
+     */
+    public static Answer post(User writer, Question question, String contents) {
+        return new Answer(null, writer, question, contents, false);
+    }
+
     public boolean isOwner(User writer) {
         return this.writer.equals(writer);
     }
@@ -0,0 +1,50 @@
+package qna.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 지 오래된 답변을 원래 id 그대로 옮겨 둔 보관 테이블. 보관 후에는 변경하지 않는다.
+ * 질문이 아직 살아 있는 동안 먼저 보관될 수 있으므로 questionId 는 외래 키로 묶지 않는다.
+ */
+@Entity
+@Table(name = "answer_archive",
+        indexes = @Index(name = "ix_answer_archive_question_id", columnList = "questionId"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class AnswerArchive {
+    @Id
+    private Long id;
+
+    private Long questionId;
+
+    private Long writerId;
+
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    private String contents;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime deletedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Override
+    public String toString() {
+        return "AnswerArchive{" +
+                "id=" + id +
+                ", questionId=" + questionId +
+                ", writerId=" + writerId +
+                ", createdAt=" + createdAt +
+                ", deletedAt=" + deletedAt +
+                ", archivedAt=" + archivedAt +
+                '}';
+    }
+}
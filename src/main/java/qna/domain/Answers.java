@@ -2,10 +2,12 @@ package qna.domain;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Where;
 
 import javax.persistence.Embeddable;
 import javax.persistence.OneToMany;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -13,6 +15,7 @@ import java.util.stream.Collectors;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Answers {
     @OneToMany(mappedBy = "question", orphanRemoval = true)
+    @Where(clause = "deleted = false")
     private List<Answer> values = new ArrayList<>();
 
     public Answers(List<Answer> answers) {
@@ -26,6 +29,10 @@ public class Answers {
         values.add(answer);
     }
 
+    public List<Answer> getValues() {
+        return Collections.unmodifiableList(values);
+    }
+
     public List<DeleteHistory> delete(User loginUser) {
         return values.stream()
                 .map(answer -> answer.delete(loginUser))
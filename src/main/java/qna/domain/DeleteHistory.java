@@ -11,7 +11,8 @@ import java.util.Objects;
 @Getter
 public class DeleteHistory {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "delete_history_seq_generator")
+    @SequenceGenerator(name = "delete_history_seq_generator", sequenceName = "delete_history_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -44,6 +45,22 @@ public class DeleteHistory {
                 .build();
     }
 
+    public static DeleteHistory ofAnswer(Long answerId, User deletedBy) {
+        return DeleteHistory.builder()
+                .contentType(ContentType.ANSWER)
+                .contentId(answerId)
+                .deletedBy(deletedBy)
+                .build();
+    }
+
+    public static DeleteHistory ofQuestion(Long questionId, User deletedBy) {
+        return DeleteHistory.builder()
+                .contentType(ContentType.QUESTION)
+                .contentId(questionId)
+                .deletedBy(deletedBy)
+                .build();
+    }
+
     public static DeleteHistory from(Question question) {
         return DeleteHistory.builder()
                 .contentType(ContentType.QUESTION)
@@ -0,0 +1,67 @@
+package qna.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+@Entity
+@Table(indexes = @Index(name = "ix_purge_chunk_job_id_status", columnList = "jobId, status"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class PurgeChunk extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "purge_chunk_seq_generator")
+    @SequenceGenerator(name = "purge_chunk_seq_generator", sequenceName = "purge_chunk_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long jobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ContentType contentType;
+
+    @Column(nullable = false)
+    private Long fromId;
+
+    @Column(nullable = false)
+    private Long toId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PurgeStatus status = PurgeStatus.PENDING;
+
+    @Column(nullable = false)
+    private int purgedRows;
+
+    public PurgeChunk(Long jobId, ContentType contentType, Long fromId, Long toId) {
+        this.jobId = jobId;
+        this.contentType = contentType;
+        this.fromId = fromId;
+        this.toId = toId;
+    }
+
+    public boolean isCompleted() {
+        return status == PurgeStatus.COMPLETED;
+    }
+
+    public void complete(int purgedRows) {
+        this.status = PurgeStatus.COMPLETED;
+        this.purgedRows = purgedRows;
+    }
+
+    @Override
+    public String toString() {
+        return "PurgeChunk{" +
+                "id=" + id +
+                ", jobId=" + jobId +
+                ", contentType=" + contentType +
+                ", fromId=" + fromId +
+                ", toId=" + toId +
+                ", status=" + status +
+                ", purgedRows=" + purgedRows +
+                '}';
+    }
+}
@@ -0,0 +1,65 @@
+package qna.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+@Entity
+@Table(indexes = @Index(name = "ix_purge_job_user_id_status", columnList = "userId, status"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class PurgeJob extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "purge_job_seq_generator")
+    @SequenceGenerator(name = "purge_job_seq_generator", sequenceName = "purge_job_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PurgeStatus status = PurgeStatus.RUNNING;
+
+    @Column(nullable = false)
+    private int totalChunks;
+
+    @Column(nullable = false, updatable = false)
+    private int completedChunks;
+
+    @Column(nullable = false, updatable = false)
+    private long purgedRows;
+
+    public PurgeJob(Long userId) {
+        this.userId = userId;
+    }
+
+    public void planned(int totalChunks) {
+        this.totalChunks = totalChunks;
+    }
+
+    public boolean isCompleted() {
+        return status == PurgeStatus.COMPLETED;
+    }
+
+    public double getProgress() {
+        if (totalChunks == 0) {
+            return 1.0;
+        }
+        return (double) completedChunks / totalChunks;
+    }
+
+    @Override
+    public String toString() {
+        return "PurgeJob{" +
+                "id=" + id +
+                ", userId=" + userId +
+                ", status=" + status +
+                ", totalChunks=" + totalChunks +
+                ", completedChunks=" + completedChunks +
+                ", purgedRows=" + purgedRows +
+                '}';
+    }
+}
@@ -0,0 +1,5 @@
+package qna.domain;
+
+public enum PurgeStatus {
+    PENDING, RUNNING, COMPLETED, FAILED
+}
@@ -4,6 +4,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import qna.exception.CannotDeleteException;
 
 import javax.persistence.*;
@@ -11,19 +12,25 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "ix_question_deleted_created_at_id", columnList = "deleted, createdAt, id"),
+        @Index(name = "ix_question_writer_id_deleted", columnList = "writer_id, deleted")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Question extends BaseEntity {
     private static final String ERROR_MESSAGE_CANNOT_DELETE_QUESTION = "질문을 삭제할 권한이 없습니다.";
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "question_seq_generator")
+    @SequenceGenerator(name = "question_seq_generator", sequenceName = "question_seq", allocationSize = 50)
     private Long id;
 
     @Column(length = 100, nullable = false)
     private String title;
 
     @Lob
+    @Basic(fetch = FetchType.LAZY)
     private String contents;
 
     @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
@@ -33,6 +40,15 @@ public class Question extends BaseEntity {
     @Column(nullable = false)
     private boolean deleted = false;
 
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int answerCount;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
     @Embedded
     private Answers answers = new Answers();
 
@@ -76,10 +92,14 @@ public class Question extends BaseEntity {
         this.contents = contents;
     }
 
-    public List<DeleteHistory> delete(User loginUser) {
+    public void validateDeletable(User loginUser) {
         if (!isOwner(loginUser)) {
             throw new CannotDeleteException(ERROR_MESSAGE_CANNOT_DELETE_QUESTION);
         }
+    }
+
+    public List<DeleteHistory> delete(User loginUser) {
+        validateDeletable(loginUser);
 
         this.deleted = true;
         List<DeleteHistory> deleteHistories = new ArrayList<>();
@@ -0,0 +1,50 @@
+package qna.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 지 오래된 질문을 원래 id 그대로 옮겨 둔 보관 테이블. 보관 후에는 변경하지 않는다.
+ */
+@Entity
+@Table(name = "question_archive",
+        indexes = @Index(name = "ix_question_archive_writer_id", columnList = "writerId"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class QuestionArchive {
+    @Id
+    private Long id;
+
+    @Column(length = 100, nullable = false)
+    private String title;
+
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    private String contents;
+
+    private Long writerId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime deletedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Override
+    public String toString() {
+        return "QuestionArchive{" +
+                "id=" + id +
+                ", title='" + title + '\'' +
+                ", writerId=" + writerId +
+                ", createdAt=" + createdAt +
+                ", deletedAt=" + deletedAt +
+                ", archivedAt=" + archivedAt +
+                '}';
+    }
+}
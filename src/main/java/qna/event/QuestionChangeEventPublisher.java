@@ -0,0 +1,77 @@
+package qna.event;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import qna.domain.Answer;
+import qna.domain.Question;
+import qna.domain.User;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * 질문, 답변, 작성자가 flush 될 때마다 {@link QuestionChangedEvent} 를 발행한다.
+ * 벌크 쿼리처럼 엔티티 이벤트를 거치지 않는 변경은 호출한 쪽에서 직접 발행해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuestionChangeEventPublisher implements PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener {
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getEntity());
+    }
+
+    private void publish(Object entity) {
+        if (entity instanceof Question) {
+            applicationEventPublisher.publishEvent(QuestionChangedEvent.of(((Question) entity).getId()));
+            return;
+        }
+        if (entity instanceof Answer) {
+            applicationEventPublisher.publishEvent(QuestionChangedEvent.of(((Answer) entity).getQuestion().getId()));
+            return;
+        }
+        if (entity instanceof User) {
+            applicationEventPublisher.publishEvent(QuestionChangedEvent.all());
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+}
@@ -0,0 +1,30 @@
+package qna.event;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@EqualsAndHashCode
+@ToString
+public class QuestionChangedEvent {
+    private static final QuestionChangedEvent ALL = new QuestionChangedEvent(null);
+
+    private final Long questionId;
+
+    private QuestionChangedEvent(Long questionId) {
+        this.questionId = questionId;
+    }
+
+    public static QuestionChangedEvent of(Long questionId) {
+        return new QuestionChangedEvent(questionId);
+    }
+
+    public static QuestionChangedEvent all() {
+        return ALL;
+    }
+
+    public boolean isAll() {
+        return questionId == null;
+    }
+}
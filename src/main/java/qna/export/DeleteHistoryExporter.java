@@ -0,0 +1,54 @@
+package qna.export;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import qna.domain.ContentType;
+import qna.history.DeleteHistoryRecord;
+import qna.history.DeleteHistoryStore;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 삭제 이력을 목록으로 모으지 않고 한 행씩 읽으면서 바로 OutputStream 에 쓴다.
+ * 읽는 쪽({@link DeleteHistoryStore})이 일정한 단위로 메모리를 비우므로 내보내는 행 수와 관계없이 힙 사용량이 일정하다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DeleteHistoryExporter {
+    public static final String ERROR_MESSAGE_INVALID_DATE_RANGE = "조회 시작일은 종료일보다 이후일 수 없습니다.";
+
+    private final DeleteHistoryStore deleteHistoryStore;
+
+    public long export(ExportFormat format, ContentType contentType, LocalDateTime from, LocalDateTime to,
+                       OutputStream out) throws IOException {
+        if (Objects.nonNull(from) && Objects.nonNull(to) && from.isAfter(to)) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_INVALID_DATE_RANGE);
+        }
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        format.writeHeader(writer);
+        try {
+            long count = deleteHistoryStore.forEach(contentType, from, to, record -> write(format, writer, record));
+            writer.flush();
+            return count;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void write(ExportFormat format, Writer writer, DeleteHistoryRecord record) {
+        try {
+            format.writeRow(writer, record);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
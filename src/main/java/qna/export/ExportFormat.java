@@ -0,0 +1,68 @@
+package qna.export;
+
+import qna.history.DeleteHistoryRecord;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Objects;
+
+public enum ExportFormat {
+    NDJSON {
+        @Override
+        void writeHeader(Writer writer) {
+        }
+
+        @Override
+        void writeRow(Writer writer, DeleteHistoryRecord record) throws IOException {
+            writer.write("{\"id\":");
+            writer.write(String.valueOf(record.getId()));
+            writer.write(",\"contentType\":");
+            writer.write(quote(record.getContentType()));
+            writer.write(",\"contentId\":");
+            writer.write(String.valueOf(record.getContentId()));
+            writer.write(",\"deletedById\":");
+            writer.write(String.valueOf(record.getDeletedById()));
+            writer.write(",\"createDate\":");
+            writer.write(quote(record.getCreateDate()));
+            writer.write("}\n");
+        }
+
+        private String quote(Object value) {
+            if (Objects.isNull(value)) {
+                return "null";
+            }
+            return '"' + value.toString() + '"';
+        }
+    },
+    CSV {
+        @Override
+        void writeHeader(Writer writer) throws IOException {
+            writer.write("id,contentType,contentId,deletedById,createDate\n");
+        }
+
+        @Override
+        void writeRow(Writer writer, DeleteHistoryRecord record) throws IOException {
+            writer.write(value(record.getId()));
+            writer.write(',');
+            writer.write(value(record.getContentType()));
+            writer.write(',');
+            writer.write(value(record.getContentId()));
+            writer.write(',');
+            writer.write(value(record.getDeletedById()));
+            writer.write(',');
+            writer.write(value(record.getCreateDate()));
+            writer.write('\n');
+        }
+
+        private String value(Object value) {
+            if (Objects.isNull(value)) {
+                return "";
+            }
+            return value.toString();
+        }
+    };
+
+    abstract void writeHeader(Writer writer) throws IOException;
+
+    abstract void writeRow(Writer writer, DeleteHistoryRecord record) throws IOException;
+}
@@ -0,0 +1,13 @@
+package qna.history;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "qna.delete-history.partition")
+@Getter
+@Setter
+public class DeleteHistoryPartitionProperties {
+    private boolean enabled = false;
+    private int retentionMonths = 24;
+}
@@ -0,0 +1,233 @@
+package qna.history;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.domain.ContentType;
+import qna.domain.DeleteHistory;
+import qna.domain.User;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 삭제 이력을 createDate 의 월별 테이블(delete_history_yyyyMM)에 나누어 저장한다.
+ * <p>
+ * 쓰기는 이력의 createDate 가 속한 월 테이블로 보내고, 읽기는 기존 delete_history 테이블과 조회 구간에 걸치는
+ * 월 테이블을 차례로 읽는다. 보존 기간이 지난 이력은 행 단위 DELETE 대신 월 테이블을 통째로 DROP 한다.
+ * id 는 JPA 와 같은 delete_history_seq 에서 pooled-lo 방식으로 할당하므로 기존 테이블의 id 와 겹치지 않는다.
+ */
+@Slf4j
+@Component
+public class DeleteHistoryPartitions {
+    static final String LEGACY_TABLE = "delete_history";
+    private static final String BUCKET_PREFIX = "delete_history_";
+    private static final DateTimeFormatter BUCKET_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern BUCKET_NAME = Pattern.compile(BUCKET_PREFIX + "(\\d{6})", Pattern.CASE_INSENSITIVE);
+    private static final int ID_BLOCK_SIZE = 50;
+    private static final int FETCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate ddlTransactionTemplate;
+    private final Set<YearMonth> knownBuckets = ConcurrentHashMap.newKeySet();
+    private long nextId;
+    private long idBlockEnd;
+
+    public DeleteHistoryPartitions(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ddlTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.ddlTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public static YearMonth bucketOf(LocalDateTime createDate) {
+        return YearMonth.from(createDate);
+    }
+
+    static String tableOf(YearMonth bucket) {
+        return BUCKET_PREFIX + bucket.format(BUCKET_SUFFIX);
+    }
+
+    public List<YearMonth> findBuckets() {
+        return jdbcTemplate.queryForList("select table_name from information_schema.tables " +
+                                                 "where table_schema = schema()", String.class)
+                .stream()
+                .map(BUCKET_NAME::matcher)
+                .filter(Matcher::matches)
+                .map(matcher -> YearMonth.parse(matcher.group(1), BUCKET_SUFFIX))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    public void createBucket(YearMonth bucket) {
+        if (knownBuckets.contains(bucket)) {
+            return;
+        }
+        executeDdl("create table if not exists " + tableOf(bucket) + " (" +
+                           "id bigint not null, " +
+                           "content_type varchar(255), " +
+                           "content_id bigint, " +
+                           "deleted_by_id bigint, " +
+                           "create_date timestamp, " +
+                           "primary key (id))");
+        knownBuckets.add(bucket);
+    }
+
+    public void dropBucket(YearMonth bucket) {
+        executeDdl("drop table if exists " + tableOf(bucket));
+        knownBuckets.remove(bucket);
+        log.info("삭제 이력 월 테이블 {}을(를) 삭제했습니다.", tableOf(bucket));
+    }
+
+    /**
+     * DDL 은 DB 에 따라 진행 중인 트랜잭션을 암묵적으로 커밋하므로, 호출한 쪽의 트랜잭션과 분리된 연결에서 실행한다.
+     */
+    private void executeDdl(String sql) {
+        ddlTransactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute(sql));
+    }
+
+    public int saveAll(List<DeleteHistory> deleteHistories) {
+        Map<YearMonth, List<DeleteHistory>> byBucket = deleteHistories.stream()
+                .collect(Collectors.groupingBy(deleteHistory -> bucketOf(deleteHistory.getCreateDate()),
+                                               TreeMap::new, Collectors.toList()));
+        byBucket.forEach((bucket, rows) -> {
+            createBucket(bucket);
+            List<Object[]> args = new ArrayList<>(rows.size());
+            for (DeleteHistory row : rows) {
+                User deletedBy = row.getDeletedBy();
+                args.add(new Object[]{
+                        nextId(),
+                        row.getContentType().name(),
+                        row.getContentId(),
+                        Objects.isNull(deletedBy) ? null : deletedBy.getId(),
+                        Timestamp.valueOf(row.getCreateDate())
+                });
+            }
+            jdbcTemplate.batchUpdate("insert into " + tableOf(bucket) +
+                                             " (id, content_type, content_id, deleted_by_id, create_date) " +
+                                             "values (?, ?, ?, ?, ?)", args);
+        });
+        return deleteHistories.size();
+    }
+
+    /**
+     * 기존 테이블, 월 테이블 순서로 조건에 맞는 행을 읽어 consumer 에 넘긴다. 각 테이블 안에서는 id 순서다.
+     * from, to 에 걸치지 않는 월 테이블은 읽지 않는다.
+     */
+    public long forEach(ContentType contentType, LocalDateTime from, LocalDateTime to,
+                        Consumer<DeleteHistoryRecord> consumer) {
+        List<String> tables = new ArrayList<>();
+        tables.add(LEGACY_TABLE);
+        findBuckets().stream()
+                .filter(bucket -> Objects.isNull(from) || !bucket.isBefore(bucketOf(from)))
+                .filter(bucket -> Objects.isNull(to) || bucket.atDay(1).atStartOfDay().isBefore(to))
+                .map(DeleteHistoryPartitions::tableOf)
+                .forEach(tables::add);
+
+        long[] count = {0};
+        for (String table : tables) {
+            query(table, contentType, from, to, resultSet -> {
+                consumer.accept(toRecord(resultSet));
+                count[0]++;
+            });
+        }
+        return count[0];
+    }
+
+    /**
+     * 기존 테이블과 모든 월 테이블에서 contentIds 중 이미 이력이 있는 id 를 찾는다.
+     */
+    public Set<Long> findRecordedContentIds(ContentType contentType, Collection<Long> contentIds) {
+        List<String> tables = new ArrayList<>();
+        tables.add(LEGACY_TABLE);
+        findBuckets().stream()
+                .map(DeleteHistoryPartitions::tableOf)
+                .forEach(tables::add);
+
+        String placeholders = contentIds.stream()
+                .map(contentId -> "?")
+                .collect(Collectors.joining(", "));
+        List<Object> params = new ArrayList<>();
+        params.add(contentType.name());
+        params.addAll(contentIds);
+
+        Set<Long> recorded = new HashSet<>();
+        for (String table : tables) {
+            recorded.addAll(jdbcTemplate.queryForList("select content_id from " + table +
+                                                              " where content_type = ? and content_id in (" +
+                                                              placeholders + ")",
+                                                      Long.class, params.toArray()));
+        }
+        return recorded;
+    }
+
+    private void query(String table, ContentType contentType, LocalDateTime from, LocalDateTime to,
+                       RowCallbackHandler handler) {
+        StringBuilder sql = new StringBuilder("select id, content_type, content_id, deleted_by_id, create_date from ")
+                .append(table)
+                .append(" where 1 = 1");
+        List<Object> params = new ArrayList<>();
+        if (Objects.nonNull(contentType)) {
+            sql.append(" and content_type = ?");
+            params.add(contentType.name());
+        }
+        if (Objects.nonNull(from)) {
+            sql.append(" and create_date >= ?");
+            params.add(Timestamp.valueOf(from));
+        }
+        if (Objects.nonNull(to)) {
+            sql.append(" and create_date < ?");
+            params.add(Timestamp.valueOf(to));
+        }
+        sql.append(" order by id");
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql.toString());
+            statement.setFetchSize(FETCH_SIZE);
+            for (int i = 0; i < params.size(); i++) {
+                statement.setObject(i + 1, params.get(i));
+            }
+            return statement;
+        }, handler);
+    }
+
+    private static DeleteHistoryRecord toRecord(ResultSet resultSet) throws SQLException {
+        String contentType = resultSet.getString("content_type");
+        Timestamp createDate = resultSet.getTimestamp("create_date");
+        return new DeleteHistoryRecord(resultSet.getLong("id"),
+                                       Objects.isNull(contentType) ? null : ContentType.valueOf(contentType),
+                                       resultSet.getObject("content_id", Long.class),
+                                       resultSet.getObject("deleted_by_id", Long.class),
+                                       Objects.isNull(createDate) ? null : createDate.toLocalDateTime());
+    }
+
+    private synchronized long nextId() {
+        if (nextId == idBlockEnd) {
+            Long value = jdbcTemplate.queryForObject("select next value for delete_history_seq", Long.class);
+            nextId = Objects.requireNonNull(value);
+            idBlockEnd = nextId + ID_BLOCK_SIZE;
+        }
+        return nextId++;
+    }
+}
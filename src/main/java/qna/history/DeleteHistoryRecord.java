@@ -0,0 +1,37 @@
+package qna.history;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import qna.domain.ContentType;
+import qna.domain.DeleteHistory;
+import qna.domain.User;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 저장 위치(기존 테이블, 월별 테이블)와 관계없이 읽어 온 삭제 이력 한 행.
+ * 작성자는 id 만 가지므로 읽는 동안 User 를 초기화하지 않는다.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor
+public class DeleteHistoryRecord {
+    private final Long id;
+    private final ContentType contentType;
+    private final Long contentId;
+    private final Long deletedById;
+    private final LocalDateTime createDate;
+
+    public static DeleteHistoryRecord from(DeleteHistory deleteHistory) {
+        User deletedBy = deleteHistory.getDeletedBy();
+        return new DeleteHistoryRecord(deleteHistory.getId(),
+                                       deleteHistory.getContentType(),
+                                       deleteHistory.getContentId(),
+                                       Objects.isNull(deletedBy) ? null : deletedBy.getId(),
+                                       deleteHistory.getCreateDate());
+    }
+}
@@ -0,0 +1,45 @@
+package qna.history;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 이번 달과 다음 달 테이블을 미리 만들어 월이 바뀌는 순간의 첫 쓰기에서 DDL 이 실행되지 않게 하고,
+ * 보존 기간이 지난 월 테이블을 삭제한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeleteHistoryRetentionJob {
+    private final DeleteHistoryPartitionProperties properties;
+    private final DeleteHistoryPartitions partitions;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${qna.delete-history.partition.maintenance-cron:0 30 3 * * *}")
+    public void maintain() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        maintain(YearMonth.now());
+    }
+
+    List<YearMonth> maintain(YearMonth current) {
+        partitions.createBucket(current);
+        partitions.createBucket(current.plusMonths(1));
+
+        YearMonth oldestRetained = current.minusMonths(properties.getRetentionMonths());
+        List<YearMonth> expired = partitions.findBuckets().stream()
+                .filter(bucket -> bucket.isBefore(oldestRetained))
+                .collect(Collectors.toList());
+        expired.forEach(partitions::dropBucket);
+        return expired;
+    }
+}
@@ -0,0 +1,74 @@
+package qna.history;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import qna.domain.ContentType;
+import qna.domain.DeleteHistory;
+import qna.repository.DeleteHistoryRepository;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 삭제 이력을 저장하고 읽는 단일 진입점.
+ * 월별 테이블을 켜면({@code qna.delete-history.partition.enabled}) {@link DeleteHistoryPartitions} 로,
+ * 끄면 기존 delete_history 테이블로 보낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DeleteHistoryStore {
+    private final DeleteHistoryPartitionProperties properties;
+    private final DeleteHistoryPartitions partitions;
+    private final DeleteHistoryRepository deleteHistoryRepository;
+    private final EntityManager em;
+
+    public void saveAll(List<DeleteHistory> deleteHistories) {
+        if (properties.isEnabled()) {
+            partitions.saveAll(deleteHistories);
+            return;
+        }
+        deleteHistoryRepository.saveAll(deleteHistories);
+    }
+
+    /**
+     * contentIds 중 이미 삭제 이력이 남아 있는 id 를 돌려준다.
+     */
+    public Set<Long> findRecordedContentIds(ContentType contentType, Collection<Long> contentIds) {
+        if (contentIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        if (properties.isEnabled()) {
+            return partitions.findRecordedContentIds(contentType, contentIds);
+        }
+        return new HashSet<>(deleteHistoryRepository.findContentIds(contentType, contentIds));
+    }
+
+    @Transactional(readOnly = true)
+    public long forEach(ContentType contentType, LocalDateTime from, LocalDateTime to,
+                        Consumer<DeleteHistoryRecord> consumer) {
+        if (properties.isEnabled()) {
+            return partitions.forEach(contentType, from, to, consumer);
+        }
+
+        long count = 0;
+        try (Stream<DeleteHistory> deleteHistories = deleteHistoryRepository.streamAll(contentType, from, to)) {
+            Iterator<DeleteHistory> iterator = deleteHistories.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(DeleteHistoryRecord.from(iterator.next()));
+                if (++count % DeleteHistoryRepository.STREAM_FETCH_SIZE == 0) {
+                    em.clear();
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,15 @@
+package qna.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "qna.idempotency")
+@Getter
+@Setter
+public class IdempotencyProperties {
+    private long maximumSize = 100_000;
+    private Duration ttl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,66 @@
+package qna.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Service;
+import qna.domain.User;
+import qna.exception.CannotDeleteException;
+import qna.service.QnaService;
+
+import java.util.Objects;
+
+/**
+ * 클라이언트가 시간 초과로 다시 보내는 질문 삭제 요청을 DB 까지 보내지 않고 처리한다.
+ * <ul>
+ *     <li>같은 사용자가 같은 질문을 동시에 삭제하면 먼저 들어온 요청 하나만 실행하고 나머지는 그 결과를 함께 받는다.</li>
+ *     <li>멱등 키와 함께 성공한 삭제는 ttl 동안 기억해 두고, 같은 키로 다시 오면 DB 를 거치지 않고 성공으로 돌려준다.</li>
+ * </ul>
+ * 실패한 요청은 기억하지 않으므로 같은 키로 다시 보내면 다시 실행한다.
+ * 트랜잭션을 열지 않으므로, 기다리는 요청이 DB 연결을 붙잡지 않는다.
+ */
+@Service
+public class IdempotentDeleteService {
+    private static final String ERROR_MESSAGE_KEY_REUSED = "같은 멱등 키를 다른 질문에 사용할 수 없습니다.";
+
+    private final QnaService qnaService;
+    private final InFlightRequests<String, Void> inFlightDeletes = new InFlightRequests<>();
+    private final Cache<String, Long> completedDeletes;
+
+    public IdempotentDeleteService(QnaService qnaService, IdempotencyProperties properties) {
+        this.qnaService = qnaService;
+        this.completedDeletes = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+    }
+
+    public void deleteQuestion(User loginUser, Long questionId) throws CannotDeleteException {
+        deleteQuestion(loginUser, questionId, null);
+    }
+
+    public void deleteQuestion(User loginUser, Long questionId, String idempotencyKey) throws CannotDeleteException {
+        String completedKey = Objects.isNull(idempotencyKey) ? null : loginUser.getId() + ":" + idempotencyKey;
+        if (Objects.nonNull(completedKey) && isCompleted(completedKey, questionId)) {
+            return;
+        }
+        inFlightDeletes.execute(questionId + ":" + loginUser.getId(), () -> {
+            qnaService.deleteQuestion(loginUser, questionId);
+            return null;
+        });
+        // 함께 합쳐진 요청도 각자의 멱등 키를 남기도록 실행한 요청이 아니라 결과를 받은 요청마다 기록한다.
+        if (Objects.nonNull(completedKey)) {
+            completedDeletes.put(completedKey, questionId);
+        }
+    }
+
+    private boolean isCompleted(String completedKey, Long questionId) {
+        Long completedQuestionId = completedDeletes.getIfPresent(completedKey);
+        if (Objects.isNull(completedQuestionId)) {
+            return false;
+        }
+        if (!completedQuestionId.equals(questionId)) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_KEY_REUSED);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,101 @@
+package qna.journal;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import qna.domain.ContentType;
+import qna.domain.DeleteHistory;
+import qna.domain.User;
+import qna.history.DeleteHistoryStore;
+import qna.repository.AnswerRepository;
+import qna.repository.QuestionRepository;
+import qna.repository.UserRepository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class DeleteHistoryBatchWriter {
+    private final DeleteHistoryStore deleteHistoryStore;
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final UserRepository userRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void write(List<JournalEntry> entries) {
+        save(entries);
+    }
+
+    /**
+     * 호출한 쪽의 트랜잭션과 연결을 그대로 사용해 저장한다. 삭제와 같은 트랜잭션으로 커밋된다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void writeInCurrentTransaction(List<JournalEntry> entries) {
+        save(entries);
+    }
+
+    /**
+     * 저널에서 재생한 이력 중 이 DB 에서 실제로 삭제된 글이고, 작성자가 있고, 아직 이력이 없는 것만 저장한다.
+     * 커밋 직전에 기록했지만 롤백된 이력, 이미 저장된 이력, 다른 DB 에서 남긴 이력은 건너뛰므로 여러 번 재생해도 된다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int replay(List<JournalEntry> entries) {
+        Map<ContentType, Set<Long>> replayable = entries.stream()
+                .collect(Collectors.groupingBy(JournalEntry::getContentType,
+                                               Collectors.mapping(JournalEntry::getContentId, Collectors.toSet())));
+        replayable.replaceAll((contentType, contentIds) -> {
+            Set<Long> deleted = findDeletedContentIds(contentType, contentIds);
+            deleted.removeAll(deleteHistoryStore.findRecordedContentIds(contentType, deleted));
+            return deleted;
+        });
+        Set<Long> userIds = findUserIds(entries);
+
+        List<JournalEntry> replayed = entries.stream()
+                .filter(entry -> replayable.get(entry.getContentType()).contains(entry.getContentId()))
+                .filter(entry -> Objects.isNull(entry.getDeletedById()) || userIds.contains(entry.getDeletedById()))
+                .collect(Collectors.toList());
+        save(replayed);
+        return replayed.size();
+    }
+
+    private Set<Long> findDeletedContentIds(ContentType contentType, Collection<Long> contentIds) {
+        if (contentType == ContentType.QUESTION) {
+            return new HashSet<>(questionRepository.findIdsByIdInAndDeletedTrue(contentIds));
+        }
+        return new HashSet<>(answerRepository.findIdsByIdInAndDeletedTrue(contentIds));
+    }
+
+    private Set<Long> findUserIds(List<JournalEntry> entries) {
+        Set<Long> deletedByIds = entries.stream()
+                .map(JournalEntry::getDeletedById)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return userRepository.findAllById(deletedByIds).stream()
+                .map(User::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private void save(List<JournalEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<DeleteHistory> deleteHistories = entries.stream()
+                .map(entry -> entry.toDeleteHistory(findDeletedBy(entry)))
+                .collect(Collectors.toList());
+        deleteHistoryStore.saveAll(deleteHistories);
+    }
+
+    private User findDeletedBy(JournalEntry entry) {
+        if (Objects.isNull(entry.getDeletedById())) {
+            return null;
+        }
+        return userRepository.getById(entry.getDeletedById());
+    }
+}
@@ -0,0 +1,360 @@
+package qna.journal;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 삭제 이력을 queue 에 모아 백그라운드 스레드가 flushSize 단위로 묶어 저장하는 write-behind 저널.
+ * <p>
+ * 트랜잭션 안의 이력은 커밋 직전에 queue 자리를 예약하고 로컬 파일에 기록해 fsync 한다({@link #prepare(List)}).
+ * 커밋되면 queue 에 넣고({@link #publish(List)}), 롤백되면 기록을 무효로 표시한다({@link #discard(List)}).
+ * queue 자리를 예약하지 못하면 파일을 거치지 않고 호출한 트랜잭션 안에서 바로 저장한다.
+ * 저장이 끝난 이력은 커밋 레코드로 표시하고, 대기 중인 이력이 없으면 파일을 비운다.
+ * 다음 기동 시 표시되지 않은 이력은 {@link DeleteHistoryBatchWriter#replay(List)} 로 재생한다.
+ */
+@Slf4j
+@Component
+public class DeleteHistoryJournal implements InitializingBean, DisposableBean {
+    private static final String ERROR_MESSAGE_CLOSED = "삭제 이력 저널이 종료되었습니다.";
+    private static final String ERROR_MESSAGE_NO_PATH = "삭제 이력 저널을 켜려면 qna.delete-history.journal.path 를 지정해야 합니다.";
+    private static final String ERROR_MESSAGE_LOCKED = "다른 프로세스나 컨텍스트가 사용 중인 저널 파일입니다: ";
+
+    private final DeleteHistoryJournalProperties properties;
+    private final DeleteHistoryBatchWriter writer;
+    private final BlockingQueue<JournalEntry> queue = new LinkedBlockingQueue<>();
+    private final Semaphore capacity;
+    private final Object logLock = new Object();
+
+    private FileChannel channel;
+    private FileLock lock;
+    private long sequence;
+    private long pending;
+    private Thread flusher;
+    private volatile boolean running;
+
+    public DeleteHistoryJournal(DeleteHistoryJournalProperties properties, DeleteHistoryBatchWriter writer) {
+        this.properties = properties;
+        this.writer = writer;
+        this.capacity = new Semaphore(properties.getCapacity());
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Path path = properties.getPath();
+        if (Objects.isNull(path)) {
+            throw new IllegalStateException(ERROR_MESSAGE_NO_PATH);
+        }
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        lock(path);
+        replay(path);
+        channel.truncate(0);
+        channel.force(true);
+
+        running = true;
+        flusher = new Thread(this::flushLoop, "delete-history-journal");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * 트랜잭션 밖에서 삭제 이력을 남긴다. 파일에 기록한 뒤 queue 에 넣고, 자리가 없으면 바로 저장한다.
+     */
+    public void append(List<JournalEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (!properties.isEnabled() || !reserve(entries.size())) {
+            writer.write(entries);
+            return;
+        }
+        publish(writeAhead(entries));
+    }
+
+    /**
+     * 커밋 직전에 호출한다. queue 자리를 예약하고 파일에 기록해 fsync 한 이력을 돌려준다.
+     * 저널을 쓰지 않거나 자리를 예약하지 못하면 호출한 트랜잭션 안에서 저장하고 빈 목록을 돌려준다.
+     */
+    public List<JournalEntry> prepare(List<JournalEntry> entries) {
+        if (entries.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (!properties.isEnabled() || !reserve(entries.size())) {
+            writer.writeInCurrentTransaction(entries);
+            return Collections.emptyList();
+        }
+        return writeAhead(entries);
+    }
+
+    /**
+     * 커밋된 뒤 호출한다. {@link #prepare(List)} 로 기록한 이력을 queue 에 넣는다.
+     * 이미 종료 중이면 파일에 남겨 두고 다음 기동 시 재생한다.
+     */
+    public void publish(List<JournalEntry> journaled) {
+        if (journaled.isEmpty()) {
+            return;
+        }
+        if (!running) {
+            log.warn("저널이 종료되어 삭제 이력 {}건을 다음 기동 시 재생합니다.", journaled.size());
+            return;
+        }
+        queue.addAll(journaled);
+    }
+
+    /**
+     * 롤백된 뒤 호출한다. {@link #prepare(List)} 로 기록한 이력을 재생하지 않도록 표시하고 예약한 자리를 돌려준다.
+     */
+    public void discard(List<JournalEntry> journaled) {
+        if (journaled.isEmpty()) {
+            return;
+        }
+        resolved(journaled);
+        capacity.release(journaled.size());
+    }
+
+    private boolean reserve(int size) {
+        if (size > properties.getCapacity()) {
+            return false;
+        }
+        try {
+            return capacity.tryAcquire(size, properties.getOfferTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private List<JournalEntry> writeAhead(List<JournalEntry> entries) {
+        if (!running) {
+            capacity.release(entries.size());
+            throw new IllegalStateException(ERROR_MESSAGE_CLOSED);
+        }
+        synchronized (logLock) {
+            List<JournalEntry> journaled = new ArrayList<>(entries.size());
+            StringBuilder lines = new StringBuilder();
+            for (JournalEntry entry : entries) {
+                JournalEntry sequenced = entry.sequenced(++sequence);
+                journaled.add(sequenced);
+                lines.append(sequenced.toLine()).append('\n');
+            }
+            try {
+                writeAndForce(lines.toString());
+            } catch (UncheckedIOException e) {
+                capacity.release(entries.size());
+                throw e;
+            }
+            pending += journaled.size();
+            return journaled;
+        }
+    }
+
+    private void flushLoop() {
+        List<JournalEntry> batch = new ArrayList<>(properties.getFlushSize());
+        while (running || !queue.isEmpty() || !batch.isEmpty()) {
+            if (batch.isEmpty()) {
+                collect(batch);
+            }
+            if (batch.isEmpty()) {
+                continue;
+            }
+            try {
+                flush(batch);
+                batch.clear();
+            } catch (RuntimeException e) {
+                log.error("삭제 이력 {}건 저장에 실패했습니다. 잠시 후 다시 시도합니다.", batch.size(), e);
+                if (!running) {
+                    log.error("종료 중이므로 저장하지 못한 삭제 이력은 다음 기동 시 저널에서 재생합니다.");
+                    return;
+                }
+                sleep(properties.getFlushInterval().toMillis());
+            }
+        }
+    }
+
+    private void collect(List<JournalEntry> batch) {
+        try {
+            long flushIntervalNanos = properties.getFlushInterval().toNanos();
+            JournalEntry first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+            if (first == null) {
+                return;
+            }
+            batch.add(first);
+
+            long deadline = System.nanoTime() + flushIntervalNanos;
+            while (batch.size() < properties.getFlushSize()) {
+                queue.drainTo(batch, properties.getFlushSize() - batch.size());
+                long remaining = deadline - System.nanoTime();
+                if (batch.size() >= properties.getFlushSize() || remaining <= 0) {
+                    return;
+                }
+                JournalEntry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    return;
+                }
+                batch.add(next);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flush(List<JournalEntry> entries) {
+        writer.write(entries);
+        resolved(entries);
+        capacity.release(entries.size());
+    }
+
+    private void resolved(List<JournalEntry> entries) {
+        synchronized (logLock) {
+            pending -= entries.size();
+            if (pending == 0) {
+                truncate();
+                return;
+            }
+            String sequences = entries.stream()
+                    .map(entry -> String.valueOf(entry.getSequence()))
+                    .collect(Collectors.joining(","));
+            writeAndForce(JournalEntry.TYPE_COMMIT + JournalEntry.SEPARATOR + sequences + '\n');
+        }
+    }
+
+    private void replay(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        Set<Long> committedSequences = readCommittedSequences(path);
+        List<JournalEntry> batch = new ArrayList<>(properties.getFlushSize());
+        int replayed = 0;
+        try (Stream<String> lines = Files.lines(path, StandardCharsets.UTF_8)) {
+            for (String line : (Iterable<String>) lines::iterator) {
+                if (!line.startsWith(JournalEntry.TYPE_ENTRY + JournalEntry.SEPARATOR)) {
+                    continue;
+                }
+                JournalEntry entry = parse(line);
+                if (entry == null || committedSequences.contains(entry.getSequence())) {
+                    continue;
+                }
+                batch.add(entry);
+                if (batch.size() == properties.getFlushSize()) {
+                    replayed += writer.replay(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            replayed += writer.replay(batch);
+        }
+        if (replayed > 0) {
+            log.info("저널에 남아 있던 삭제 이력 {}건을 재생했습니다.", replayed);
+        }
+    }
+
+    private void lock(Path path) throws IOException {
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null;
+        }
+        if (lock == null) {
+            channel.close();
+            throw new IllegalStateException(ERROR_MESSAGE_LOCKED + path);
+        }
+    }
+
+    private Set<Long> readCommittedSequences(Path path) throws IOException {
+        Set<Long> committedSequences = new HashSet<>();
+        try (Stream<String> lines = Files.lines(path, StandardCharsets.UTF_8)) {
+            lines.filter(line -> line.startsWith(JournalEntry.TYPE_COMMIT + JournalEntry.SEPARATOR))
+                    .map(line -> line.substring(2).split(","))
+                    .forEach(sequences -> {
+                        for (String committed : sequences) {
+                            committedSequences.add(Long.valueOf(committed));
+                        }
+                    });
+        }
+        return committedSequences;
+    }
+
+    private JournalEntry parse(String line) {
+        try {
+            return JournalEntry.parse(line);
+        } catch (RuntimeException e) {
+            log.warn("손상된 저널 레코드를 건너뜁니다: {}", line);
+            return null;
+        }
+    }
+
+    private void writeAndForce(String lines) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void truncate() {
+        try {
+            channel.truncate(0);
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (!running) {
+            return;
+        }
+        running = false;
+        flusher.join();
+        synchronized (logLock) {
+            lock.release();
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package qna.journal;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "qna.delete-history.journal")
+@Getter
+@Setter
+public class DeleteHistoryJournalProperties {
+    private boolean enabled = true;
+    /**
+     * 재시작 뒤에도 남아 있어야 하므로 기본값이 없다. 임시 디렉터리처럼 재부팅 때 지워질 수 있는 곳을 지정하지 않는다.
+     */
+    private Path path;
+    private int capacity = 10_000;
+    private int flushSize = 500;
+    private Duration flushInterval = Duration.ofMillis(200);
+    private Duration offerTimeout = Duration.ofSeconds(1);
+}
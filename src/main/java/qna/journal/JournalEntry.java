@@ -0,0 +1,77 @@
+package qna.journal;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import qna.domain.ContentType;
+import qna.domain.DeleteHistory;
+import qna.domain.User;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Getter
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class JournalEntry {
+    static final String TYPE_ENTRY = "E";
+    static final String TYPE_COMMIT = "C";
+    static final String SEPARATOR = "\t";
+
+    private final long sequence;
+    private final ContentType contentType;
+    private final Long contentId;
+    private final Long deletedById;
+    private final LocalDateTime createDate;
+
+    public static JournalEntry from(DeleteHistory deleteHistory) {
+        User deletedBy = deleteHistory.getDeletedBy();
+        return new JournalEntry(0L,
+                                deleteHistory.getContentType(),
+                                deleteHistory.getContentId(),
+                                Objects.isNull(deletedBy) ? null : deletedBy.getId(),
+                                deleteHistory.getCreateDate());
+    }
+
+    static JournalEntry parse(String line) {
+        String[] tokens = line.split(SEPARATOR, -1);
+        if (tokens.length != 6 || !TYPE_ENTRY.equals(tokens[0])) {
+            throw new IllegalArgumentException("journal entry 형식이 아닙니다: " + line);
+        }
+        return new JournalEntry(Long.parseLong(tokens[1]),
+                                ContentType.valueOf(tokens[2]),
+                                parseId(tokens[3]),
+                                parseId(tokens[4]),
+                                LocalDateTime.parse(tokens[5]));
+    }
+
+    private static Long parseId(String token) {
+        return token.isEmpty() ? null : Long.valueOf(token);
+    }
+
+    JournalEntry sequenced(long sequence) {
+        return new JournalEntry(sequence, contentType, contentId, deletedById, createDate);
+    }
+
+    String toLine() {
+        return String.join(SEPARATOR,
+                           TYPE_ENTRY,
+                           String.valueOf(sequence),
+                           contentType.name(),
+                           Objects.toString(contentId, ""),
+                           Objects.toString(deletedById, ""),
+                           createDate.toString());
+    }
+
+    public DeleteHistory toDeleteHistory(User deletedBy) {
+        return DeleteHistory.builder()
+                .contentType(contentType)
+                .contentId(contentId)
+                .deletedBy(deletedBy)
+                .createDate(createDate)
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package qna.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * hibernate-micrometer 가 내보내는 적중, 실패 횟수만으로는 바로 보기 어려운 2차 캐시 적중률을 게이지로 내보낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HibernateCacheMetrics implements MeterBinder {
+    static final String HIT_RATIO = "hibernate.second.level.cache.hit.ratio";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Gauge.builder(HIT_RATIO, statistics, HibernateCacheMetrics::hitRatio)
+                .description("Second-level cache hits / (hits + misses)")
+                .register(registry);
+    }
+
+    static double hitRatio(Statistics statistics) {
+        long hits = statistics.getSecondLevelCacheHitCount();
+        long requests = hits + statistics.getSecondLevelCacheMissCount();
+        if (requests == 0) {
+            return 0;
+        }
+        return (double) hits / requests;
+    }
+}
@@ -0,0 +1,45 @@
+package qna.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서비스 메서드의 실행 시간을 qna.transaction 타이머로 기록한다.
+ * 트랜잭션 인터셉터(LOWEST_PRECEDENCE)보다 바깥에서 감싸므로 커밋과 롤백 시간까지 포함된다.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class TransactionMetricsAspect {
+    static final String METRIC_NAME = "qna.transaction";
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("within(qna.service..*) && @within(org.springframework.stereotype.Service) && execution(public * *(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NO_EXCEPTION;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                                .description("Service method duration including transaction commit")
+                                .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                                .tag("method", joinPoint.getSignature().getName())
+                                .tag("exception", exception)
+                                .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package qna.purge;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "qna.purge")
+@Getter
+@Setter
+public class AccountPurgeProperties {
+    private int chunkSize = 1_000;
+    private int parallelism = 4;
+    private int queueCapacity = 16;
+    private boolean resumeOnStartup = true;
+}
@@ -0,0 +1,140 @@
+package qna.purge;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import qna.domain.PurgeJob;
+import qna.domain.PurgeStatus;
+import qna.exception.NotFoundException;
+import qna.repository.PurgeChunkRepository;
+import qna.repository.PurgeJobRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 탈퇴한 사용자의 질문과 답변을 id 구간 단위로 나누어 bounded executor 에서 병렬로 삭제한다.
+ * <p>
+ * 구간마다 삭제와 삭제 이력 저장, 완료 표시가 한 트랜잭션으로 커밋되므로, 중간에 종료되면
+ * 같은 사용자로 다시 요청하거나 기동 시 {@link #resumeUnfinished()} 가 남은 구간만 이어서 처리한다.
+ */
+@Slf4j
+@Service
+public class AccountPurgeService implements DisposableBean {
+    private final AccountPurgeProperties properties;
+    private final PurgeJobPlanner planner;
+    private final PurgeChunkWorker worker;
+    private final PurgeJobRepository purgeJobRepository;
+    private final PurgeChunkRepository purgeChunkRepository;
+    private final ThreadPoolExecutor executor;
+
+    public AccountPurgeService(AccountPurgeProperties properties,
+                               PurgeJobPlanner planner,
+                               PurgeChunkWorker worker,
+                               PurgeJobRepository purgeJobRepository,
+                               PurgeChunkRepository purgeChunkRepository) {
+        this.properties = properties;
+        this.planner = planner;
+        this.worker = worker;
+        this.purgeJobRepository = purgeJobRepository;
+        this.purgeChunkRepository = purgeChunkRepository;
+        this.executor = newExecutor(properties);
+    }
+
+    private static ThreadPoolExecutor newExecutor(AccountPurgeProperties properties) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(properties.getParallelism(), properties.getParallelism(),
+                                      0L, TimeUnit.MILLISECONDS,
+                                      new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                                      runnable -> {
+                                          Thread thread = new Thread(runnable,
+                                                                     "account-purge-" + threadNumber.incrementAndGet());
+                                          thread.setDaemon(true);
+                                          return thread;
+                                      },
+                                      new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public PurgeJob purge(Long userId) {
+        PurgeJob job = purgeJobRepository.findFirstByUserIdAndStatusNotOrderByIdDesc(userId, PurgeStatus.COMPLETED)
+                .orElseGet(() -> planner.plan(userId));
+        return run(job.getId());
+    }
+
+    public PurgeJob resume(Long jobId) {
+        return run(jobId);
+    }
+
+    public PurgeJob findJob(Long jobId) {
+        return purgeJobRepository.findById(jobId)
+                .orElseThrow(NotFoundException::new);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        if (!properties.isResumeOnStartup()) {
+            return;
+        }
+        List<Long> jobIds = purgeJobRepository.findIdsByStatus(PurgeStatus.RUNNING);
+        if (jobIds.isEmpty()) {
+            return;
+        }
+
+        Thread resumer = new Thread(() -> jobIds.forEach(this::resume), "account-purge-resume");
+        resumer.setDaemon(true);
+        resumer.start();
+    }
+
+    private PurgeJob run(Long jobId) {
+        purgeJobRepository.updateStatus(jobId, PurgeStatus.RUNNING, LocalDateTime.now());
+        List<Long> chunkIds = purgeChunkRepository.findIdsByJobIdAndStatus(jobId, PurgeStatus.PENDING);
+
+        long startedAt = System.nanoTime();
+        List<Future<Integer>> futures = new ArrayList<>(chunkIds.size());
+        for (Long chunkId : chunkIds) {
+            futures.add(executor.submit(() -> worker.purge(chunkId)));
+        }
+        long purgedRows = 0;
+        for (Future<Integer> future : futures) {
+            purgedRows += await(jobId, future);
+        }
+        long elapsedNanos = Math.max(System.nanoTime() - startedAt, 1);
+
+        boolean completed = purgeChunkRepository.countByJobIdAndStatus(jobId, PurgeStatus.PENDING) == 0;
+        purgeJobRepository.updateStatus(jobId, completed ? PurgeStatus.COMPLETED : PurgeStatus.FAILED,
+                                        LocalDateTime.now());
+        PurgeJob job = findJob(jobId);
+        log.info("purge 작업 {}: 구간 {}/{} 완료, 이번 실행에서 {}건 삭제 ({} rows/s)", jobId,
+                 job.getCompletedChunks(), job.getTotalChunks(), purgedRows,
+                 purgedRows * TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
+        return job;
+    }
+
+    private static int await(Long jobId, Future<Integer> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            log.error("purge 작업 {}의 구간 처리에 실패했습니다. 남은 구간은 다시 요청하면 이어서 처리합니다.", jobId, e.getCause());
+            return 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            return 0;
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,122 @@
+package qna.purge;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import qna.domain.ContentType;
+import qna.domain.DeleteHistory;
+import qna.domain.PurgeChunk;
+import qna.domain.PurgeJob;
+import qna.domain.User;
+import qna.event.QuestionChangedEvent;
+import qna.exception.NotFoundException;
+import qna.history.DeleteHistoryStore;
+import qna.repository.AnswerQuestionRef;
+import qna.repository.AnswerRepository;
+import qna.repository.PurgeChunkRepository;
+import qna.repository.PurgeJobRepository;
+import qna.repository.QuestionRepository;
+import qna.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 한 구간의 삭제, 삭제 이력 저장, 구간 완료 표시, 작업 진행률 갱신을 한 트랜잭션으로 처리한다.
+ * 완료된 구간은 다시 처리하지 않으므로 재시작 후 같은 구간이 다시 실행되어도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PurgeChunkWorker {
+    private final PurgeJobRepository purgeJobRepository;
+    private final PurgeChunkRepository purgeChunkRepository;
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final UserRepository userRepository;
+    private final DeleteHistoryStore deleteHistoryStore;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int purge(Long chunkId) {
+        PurgeChunk chunk = purgeChunkRepository.findForUpdateById(chunkId)
+                .orElseThrow(NotFoundException::new);
+        if (chunk.isCompleted()) {
+            return 0;
+        }
+
+        PurgeJob job = purgeJobRepository.findById(chunk.getJobId())
+                .orElseThrow(NotFoundException::new);
+        User deletedBy = userRepository.getById(job.getUserId());
+        LocalDateTime deletedAt = LocalDateTime.now();
+        List<DeleteHistory> deleteHistories = chunk.getContentType() == ContentType.QUESTION
+                ? purgeQuestions(chunk, deletedBy, deletedAt)
+                : purgeAnswers(chunk, deletedBy, deletedAt);
+        deleteHistoryStore.saveAll(deleteHistories);
+
+        chunk.complete(deleteHistories.size());
+        purgeJobRepository.increaseProgress(job.getId(), deleteHistories.size());
+        log.debug("purge 작업 {}의 {} 구간 [{}, {}]에서 {}건을 삭제했습니다.", job.getId(), chunk.getContentType(),
+                  chunk.getFromId(), chunk.getToId(), deleteHistories.size());
+        return deleteHistories.size();
+    }
+
+    /**
+     * 구간의 질문을 삭제하고, 그 질문에 달린 다른 사용자의 살아 있는 답변도 함께 삭제해 이력을 남긴다.
+     * 계정 정리는 작성자 검사({@link qna.exception.CannotDeleteException}) 없이 진행하므로, 답변이 삭제된 질문에
+     * 남지 않도록 여기서 정리한다. 사용자 본인의 답변은 답변 구간에서 삭제한다.
+     */
+    private List<DeleteHistory> purgeQuestions(PurgeChunk chunk, User deletedBy, LocalDateTime deletedAt) {
+        List<Long> questionIds = questionRepository.findIdsByWriterIdBetween(deletedBy.getId(), chunk.getFromId(),
+                                                                             chunk.getToId());
+        if (questionIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        questionRepository.softDeleteAllByIdIn(questionIds, deletedAt);
+        List<DeleteHistory> deleteHistories = questionIds.stream()
+                .map(id -> DeleteHistory.ofQuestion(id, deletedBy))
+                .collect(Collectors.toList());
+        deleteHistories.addAll(deleteAnswers(answerRepository.findQuestionRefsByQuestionIdInAndWriterIdNot(
+                questionIds, deletedBy.getId()), deletedBy, deletedAt));
+        questionIds.forEach(id -> applicationEventPublisher.publishEvent(QuestionChangedEvent.of(id)));
+        return deleteHistories;
+    }
+
+    private List<DeleteHistory> purgeAnswers(PurgeChunk chunk, User deletedBy, LocalDateTime deletedAt) {
+        return deleteAnswers(answerRepository.findQuestionRefsByWriterIdBetween(deletedBy.getId(),
+                                                                                chunk.getFromId(),
+                                                                                chunk.getToId()),
+                             deletedBy, deletedAt);
+    }
+
+    private List<DeleteHistory> deleteAnswers(List<AnswerQuestionRef> answers, User deletedBy,
+                                              LocalDateTime deletedAt) {
+        List<Long> answerIds = answers.stream()
+                .map(AnswerQuestionRef::getId)
+                .collect(Collectors.toList());
+        if (answerIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        answerRepository.softDeleteAllByIdIn(answerIds, deletedAt);
+        // 병렬로 도는 구간끼리 같은 질문 행을 서로 다른 순서로 잠그지 않도록 질문 id 순으로 갱신한다.
+        Map<Long, Long> answerCounts = answers.stream()
+                .collect(Collectors.groupingBy(AnswerQuestionRef::getQuestionId, TreeMap::new, Collectors.counting()));
+        answerCounts.forEach((questionId, count) -> {
+            questionRepository.decreaseAnswerCount(questionId, count.intValue());
+            applicationEventPublisher.publishEvent(QuestionChangedEvent.of(questionId));
+        });
+        return answerIds.stream()
+                .map(id -> DeleteHistory.ofAnswer(id, deletedBy))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,63 @@
+package qna.purge;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import qna.domain.ContentType;
+import qna.domain.PurgeChunk;
+import qna.domain.PurgeJob;
+import qna.exception.NotFoundException;
+import qna.repository.AnswerRepository;
+import qna.repository.PurgeChunkRepository;
+import qna.repository.PurgeJobRepository;
+import qna.repository.QuestionRepository;
+import qna.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 사용자가 쓴 질문, 답변의 id 를 keyset 으로 훑어 chunkSize 개씩 id 구간으로 나눈 PurgeChunk 를 만든다.
+ * 작업과 구간은 한 트랜잭션에 저장되므로, 중간에 종료되어도 절반만 계획된 작업은 남지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PurgeJobPlanner {
+    private final AccountPurgeProperties properties;
+    private final UserRepository userRepository;
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final PurgeJobRepository purgeJobRepository;
+    private final PurgeChunkRepository purgeChunkRepository;
+
+    @Transactional
+    public PurgeJob plan(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException();
+        }
+
+        PurgeJob job = purgeJobRepository.save(new PurgeJob(userId));
+        PageRequest chunk = PageRequest.of(0, properties.getChunkSize());
+        List<PurgeChunk> chunks = new ArrayList<>();
+        chunks.addAll(split(job.getId(), ContentType.QUESTION,
+                            afterId -> questionRepository.findIdsByWriterIdAfter(userId, afterId, chunk)));
+        chunks.addAll(split(job.getId(), ContentType.ANSWER,
+                            afterId -> answerRepository.findIdsByWriterIdAfter(userId, afterId, chunk)));
+        purgeChunkRepository.saveAll(chunks);
+        job.planned(chunks.size());
+        return job;
+    }
+
+    private static List<PurgeChunk> split(Long jobId, ContentType contentType, Function<Long, List<Long>> nextIds) {
+        List<PurgeChunk> chunks = new ArrayList<>();
+        List<Long> ids = nextIds.apply(0L);
+        while (!ids.isEmpty()) {
+            Long toId = ids.get(ids.size() - 1);
+            chunks.add(new PurgeChunk(jobId, contentType, ids.get(0), toId));
+            ids = nextIds.apply(toId);
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,33 @@
+package qna.query;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서비스 메서드 호출 하나를 {@link QueryBudgetScope} 하나로 감싼다. 트랜잭션보다 바깥에서 열어 커밋 시점의 flush 도 센다.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+@RequiredArgsConstructor
+public class QueryBudgetAspect {
+    private final QueryBudgetProperties properties;
+
+    @Around("within(qna.service..*) && @within(org.springframework.stereotype.Service) && execution(public * *(..))")
+    public Object guard(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!properties.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        String name = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        try (QueryBudgetScope ignored = QueryBudgetScope.open(name, properties.getMaxStatements(),
+                                                             properties.getMaxRepeatedStatements(),
+                                                             properties.getMode())) {
+            return joinPoint.proceed();
+        }
+    }
+}
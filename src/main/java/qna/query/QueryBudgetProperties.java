@@ -0,0 +1,15 @@
+package qna.query;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "qna.query-budget")
+@Getter
+@Setter
+public class QueryBudgetProperties {
+    private boolean enabled = true;
+    private int maxStatements = 30;
+    private int maxRepeatedStatements = 10;
+    private QueryBudgetScope.Mode mode = QueryBudgetScope.Mode.LOG;
+}
@@ -0,0 +1,100 @@
+package qna.query;
+
+import lombok.extern.slf4j.Slf4j;
+import qna.exception.QueryBudgetExceededException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 현재 스레드에서 실행되는 SQL 을 세는 범위. {@link QueryCountInspector} 가 Hibernate 가 준비하는 모든 문장을 넘겨준다.
+ * <p>
+ * 문장 수가 maxStatements 를 넘거나, 파라미터 값만 다른 같은 문장이 maxRepeats 번을 넘게 반복되면(N+1)
+ * LOG 모드에서는 범위를 닫을 때 경고를 남기고, FAIL 모드에서는 그 문장을 실행하기 전에 예외를 던진다.
+ * 이미 열린 범위 안에서 다시 열면 바깥 범위가 계속 센다.
+ */
+@Slf4j
+public final class QueryBudgetScope implements AutoCloseable {
+    private static final String ERROR_MESSAGE_TOO_MANY_STATEMENTS = "%s: SQL 문장 수가 예산 %d개를 넘었습니다.";
+    private static final String ERROR_MESSAGE_REPEATED_STATEMENT = "%s: 같은 SQL 이 %d번을 넘게 반복되었습니다(N+1 의심): %s";
+    private static final ThreadLocal<QueryBudgetScope> CURRENT = new ThreadLocal<>();
+
+    public enum Mode {
+        LOG, FAIL
+    }
+
+    private final String name;
+    private final int maxStatements;
+    private final int maxRepeats;
+    private final Mode mode;
+    private final boolean owner;
+    private final Map<String, Integer> repeats = new HashMap<>();
+    private int statementCount;
+
+    private QueryBudgetScope(String name, int maxStatements, int maxRepeats, Mode mode, boolean owner) {
+        this.name = name;
+        this.maxStatements = maxStatements;
+        this.maxRepeats = maxRepeats;
+        this.mode = mode;
+        this.owner = owner;
+    }
+
+    public static QueryBudgetScope open(String name, int maxStatements, int maxRepeats, Mode mode) {
+        QueryBudgetScope current = CURRENT.get();
+        if (Objects.nonNull(current)) {
+            return new QueryBudgetScope(name, maxStatements, maxRepeats, mode, false);
+        }
+        QueryBudgetScope scope = new QueryBudgetScope(name, maxStatements, maxRepeats, mode, true);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static void record(String sql) {
+        QueryBudgetScope scope = CURRENT.get();
+        if (Objects.nonNull(scope)) {
+            scope.add(sql);
+        }
+    }
+
+    private void add(String sql) {
+        statementCount++;
+        int repeated = repeats.merge(sql, 1, Integer::sum);
+        if (mode != Mode.FAIL) {
+            return;
+        }
+        if (statementCount > maxStatements) {
+            throw new QueryBudgetExceededException(String.format(ERROR_MESSAGE_TOO_MANY_STATEMENTS, name, maxStatements));
+        }
+        if (repeated > maxRepeats) {
+            throw new QueryBudgetExceededException(String.format(ERROR_MESSAGE_REPEATED_STATEMENT, name, maxRepeats, sql));
+        }
+    }
+
+    public int getStatementCount() {
+        if (owner) {
+            return statementCount;
+        }
+        return CURRENT.get().statementCount;
+    }
+
+    @Override
+    public void close() {
+        if (!owner) {
+            return;
+        }
+        CURRENT.remove();
+        if (mode != Mode.LOG) {
+            return;
+        }
+        if (statementCount > maxStatements) {
+            log.warn(String.format(ERROR_MESSAGE_TOO_MANY_STATEMENTS, name, maxStatements) + " 실행 수: {}", statementCount);
+        }
+        Map<String, Integer> repeatedStatements = repeats.entrySet().stream()
+                .filter(entry -> entry.getValue() > maxRepeats)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        repeatedStatements.forEach((sql, count) -> log.warn(
+                String.format(ERROR_MESSAGE_REPEATED_STATEMENT, name, maxRepeats, sql) + " 실행 수: {}", count));
+    }
+}
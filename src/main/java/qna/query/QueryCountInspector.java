@@ -0,0 +1,17 @@
+package qna.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 모든 SQL 을 현재 스레드의 {@link QueryBudgetScope} 에 기록한다.
+ * hibernate.session_factory.statement_inspector 로 등록되어 Hibernate 가 직접 생성하므로 Spring 빈이 아니다.
+ */
+public class QueryCountInspector implements StatementInspector {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public String inspect(String sql) {
+        QueryBudgetScope.record(sql);
+        return sql;
+    }
+}
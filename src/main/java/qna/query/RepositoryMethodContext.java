@@ -0,0 +1,32 @@
+package qna.query;
+
+import java.util.Objects;
+
+/**
+ * 현재 스레드에서 실행 중인 리포지토리 메서드 이름(UserRepository.findByUserId 형태).
+ * 지연 로딩이나 flush 처럼 리포지토리 밖에서 실행되는 SQL 에는 값이 없다.
+ */
+public final class RepositoryMethodContext {
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private RepositoryMethodContext() {
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    static String enter(String method) {
+        String previous = CURRENT.get();
+        CURRENT.set(method);
+        return previous;
+    }
+
+    static void exit(String previous) {
+        if (Objects.isNull(previous)) {
+            CURRENT.remove();
+            return;
+        }
+        CURRENT.set(previous);
+    }
+}
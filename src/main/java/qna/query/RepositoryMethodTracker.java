@@ -0,0 +1,34 @@
+package qna.query;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 Spring Data 리포지토리 프록시에 호출 중인 메서드를 {@link RepositoryMethodContext} 에 남기는 인터셉터를 붙인다.
+ */
+@Component
+public class RepositoryMethodTracker implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport) {
+            ((RepositoryFactoryBeanSupport<?, ?, ?>) bean).addRepositoryFactoryCustomizer(
+                    factory -> factory.addRepositoryProxyPostProcessor((proxyFactory, information) ->
+                            proxyFactory.addAdvice(track(information.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    private static MethodInterceptor track(String repositoryName) {
+        return invocation -> {
+            String previous = RepositoryMethodContext.enter(repositoryName + "." + invocation.getMethod().getName());
+            try {
+                return invocation.proceed();
+            } finally {
+                RepositoryMethodContext.exit(previous);
+            }
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package qna.query;
+
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource 빈을 datasource-proxy 로 감싸 모든 SQL 실행을 {@link SlowQueryLogListener} 에 넘긴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SlowQueryLogDataSourceWrapper implements BeanPostProcessor {
+    private final ObjectProvider<SlowQueryLogProperties> properties;
+    private final ObjectProvider<SlowQueryLogListener> listener;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource) || bean instanceof ProxyDataSource || !properties.getObject().isEnabled()) {
+            return bean;
+        }
+        return ProxyDataSourceBuilder.create(beanName, (DataSource) bean)
+                .listener(listener.getObject())
+                .build();
+    }
+}
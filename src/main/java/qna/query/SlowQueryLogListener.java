@@ -0,0 +1,75 @@
+package qna.query;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 임계 시간을 넘은 SQL 은 모두 WARN 으로, 나머지는 sampleRate 비율만 INFO 로 qna.sql.slow 로거에 남긴다.
+ * 바인딩된 파라미터와 호출한 리포지토리 메서드를 함께 남기며, 남기지 않을 문장은 문자열을 만들지 않는다.
+ */
+@Slf4j(topic = "qna.sql.slow")
+@Component
+@RequiredArgsConstructor
+public class SlowQueryLogListener implements QueryExecutionListener {
+    private static final String NO_REPOSITORY = "-";
+    private static final String NULL_PARAMETER = "null";
+
+    private final SlowQueryLogProperties properties;
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (execInfo.getElapsedTime() >= properties.getThreshold().toMillis()) {
+            if (log.isWarnEnabled()) {
+                log.warn("slow {}", describe(execInfo, queryInfoList));
+            }
+            return;
+        }
+        if (log.isInfoEnabled() && ThreadLocalRandom.current().nextDouble() < properties.getSampleRate()) {
+            log.info("sampled {}", describe(execInfo, queryInfoList));
+        }
+    }
+
+    static String describe(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String repositoryMethod = RepositoryMethodContext.current();
+        StringBuilder description = new StringBuilder()
+                .append(execInfo.getElapsedTime()).append("ms")
+                .append(" repository=").append(Objects.isNull(repositoryMethod) ? NO_REPOSITORY : repositoryMethod)
+                .append(" success=").append(execInfo.isSuccess());
+        if (execInfo.isBatch()) {
+            description.append(" batchSize=").append(execInfo.getBatchSize());
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            description.append(" query=[").append(queryInfo.getQuery()).append(']');
+            for (List<ParameterSetOperation> parameters : queryInfo.getParametersList()) {
+                description.append(" params=").append(parameters.stream()
+                        .map(SlowQueryLogListener::describeParameter)
+                        .collect(Collectors.joining(",", "[", "]")));
+            }
+        }
+        return description.toString();
+    }
+
+    /**
+     * setNull(index, sqlType) 의 두 번째 인자는 값이 아니라 SQL 타입 코드이므로 null 로 남긴다.
+     */
+    private static String describeParameter(ParameterSetOperation operation) {
+        if (ParameterSetOperation.isSetNullParameterOperation(operation)) {
+            return NULL_PARAMETER;
+        }
+        return String.valueOf(operation.getArgs()[1]);
+    }
+}
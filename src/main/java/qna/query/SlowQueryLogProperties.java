@@ -0,0 +1,16 @@
+package qna.query;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "qna.slow-query-log")
+@Getter
+@Setter
+public class SlowQueryLogProperties {
+    private boolean enabled = true;
+    private Duration threshold = Duration.ofMillis(100);
+    private double sampleRate = 0.001;
+}
@@ -0,0 +1,10 @@
+package qna.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import qna.domain.AnswerArchive;
+
+import java.util.List;
+
+public interface AnswerArchiveRepository extends JpaRepository<AnswerArchive, Long> {
+    List<AnswerArchive> findByQuestionIdOrderById(Long questionId);
+}
@@ -0,0 +1,7 @@
+package qna.repository;
+
+public interface AnswerQuestionRef {
+    Long getId();
+
+    Long getQuestionId();
+}
@@ -1,8 +1,16 @@
 package qna.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import qna.cache.AnswerSnapshot;
 import qna.domain.Answer;
+import qna.domain.User;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,4 +18,50 @@ public interface AnswerRepository extends JpaRepository<Answer, Long> {
     List<Answer> findByQuestionIdAndDeletedFalse(Long questionId);
 
     Optional<Answer> findByIdAndDeletedFalse(Long id);
+
+    @Query("select a.id as id, a.question.id as questionId, w.name as writerName, a.createdAt as createdAt " +
+            "from Answer a left join a.writer w " +
+            "where a.question.id = :questionId and a.deleted = false " +
+            "order by a.id")
+    List<AnswerSummary> findSummariesByQuestionId(@Param("questionId") Long questionId);
+
+    @Query("select new qna.cache.AnswerSnapshot(a.id, a.contents, w.id, w.userId, w.name, a.createdAt, a.updatedAt) " +
+            "from Answer a left join a.writer w " +
+            "where a.question.id = :questionId and a.deleted = false " +
+            "order by a.id")
+    List<AnswerSnapshot> findSnapshotsByQuestionId(@Param("questionId") Long questionId);
+
+    boolean existsByQuestionIdAndDeletedFalseAndWriterNot(Long questionId, User writer);
+
+    @Query("select a.id from Answer a where a.question.id = :questionId and a.deleted = false order by a.id")
+    List<Long> findIdsByQuestionIdAndDeletedFalse(@Param("questionId") Long questionId);
+
+    @Query("select a.id from Answer a " +
+            "where a.writer.id = :writerId and a.deleted = false and a.id > :afterId " +
+            "order by a.id")
+    List<Long> findIdsByWriterIdAfter(@Param("writerId") Long writerId,
+                                      @Param("afterId") Long afterId,
+                                      Pageable pageable);
+
+    @Query("select a.id as id, a.question.id as questionId from Answer a " +
+            "where a.writer.id = :writerId and a.deleted = false and a.id between :fromId and :toId " +
+            "order by a.id")
+    List<AnswerQuestionRef> findQuestionRefsByWriterIdBetween(@Param("writerId") Long writerId,
+                                                              @Param("fromId") Long fromId,
+                                                              @Param("toId") Long toId);
+
+    @Query("select a.id as id, a.question.id as questionId from Answer a " +
+            "where a.question.id in :questionIds and a.writer.id <> :writerId and a.deleted = false " +
+            "order by a.id")
+    List<AnswerQuestionRef> findQuestionRefsByQuestionIdInAndWriterIdNot(
+            @Param("questionIds") Collection<Long> questionIds,
+            @Param("writerId") Long writerId);
+
+    @Modifying
+    @Query("update versioned Answer a set a.deleted = true, a.updatedAt = :deletedAt " +
+            "where a.id in :ids and a.deleted = false")
+    int softDeleteAllByIdIn(@Param("ids") Collection<Long> ids, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Query("select a.id from Answer a where a.id in :ids and a.deleted = true")
+    List<Long> findIdsByIdInAndDeletedTrue(@Param("ids") Collection<Long> ids);
 }
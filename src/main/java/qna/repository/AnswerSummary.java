@@ -0,0 +1,13 @@
+package qna.repository;
+
+import java.time.LocalDateTime;
+
+public interface AnswerSummary {
+    Long getId();
+
+    Long getQuestionId();
+
+    String getWriterName();
+
+    LocalDateTime getCreatedAt();
+}
@@ -1,7 +1,45 @@
 package qna.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import qna.domain.ContentType;
 import qna.domain.DeleteHistory;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 public interface DeleteHistoryRepository extends JpaRepository<DeleteHistory, Long> {
+    int STREAM_FETCH_SIZE = 1_000;
+
+    /**
+     * 조건에 맞는 삭제 이력을 JDBC fetch size 단위로 읽어 오는 스트림을 반환한다.
+     * 트랜잭션 안에서 사용하고 반드시 닫아야 하며, 읽은 엔티티는 호출하는 쪽에서 주기적으로 detach 해야 한다.
+     * contentType, from, to 가 null 이면 해당 조건을 적용하지 않는다.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_READONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("select d from DeleteHistory d " +
+            "where (:contentType is null or d.contentType = :contentType) " +
+            "and (:from is null or d.createDate >= :from) " +
+            "and (:to is null or d.createDate < :to) " +
+            "order by d.id")
+    Stream<DeleteHistory> streamAll(@Param("contentType") ContentType contentType,
+                                    @Param("from") LocalDateTime from,
+                                    @Param("to") LocalDateTime to);
+
+    @Query("select d.contentId from DeleteHistory d where d.contentType = :contentType and d.contentId in :contentIds")
+    List<Long> findContentIds(@Param("contentType") ContentType contentType,
+                              @Param("contentIds") Collection<Long> contentIds);
 }
@@ -0,0 +1,23 @@
+package qna.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import qna.domain.PurgeChunk;
+import qna.domain.PurgeStatus;
+
+import javax.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
+
+public interface PurgeChunkRepository extends JpaRepository<PurgeChunk, Long> {
+    @Query("select c.id from PurgeChunk c where c.jobId = :jobId and c.status = :status order by c.id")
+    List<Long> findIdsByJobIdAndStatus(@Param("jobId") Long jobId, @Param("status") PurgeStatus status);
+
+    long countByJobIdAndStatus(Long jobId, PurgeStatus status);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from PurgeChunk c where c.id = :id")
+    Optional<PurgeChunk> findForUpdateById(@Param("id") Long id);
+}
@@ -0,0 +1,33 @@
+package qna.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import qna.domain.PurgeJob;
+import qna.domain.PurgeStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PurgeJobRepository extends JpaRepository<PurgeJob, Long> {
+    Optional<PurgeJob> findFirstByUserIdAndStatusNotOrderByIdDesc(Long userId, PurgeStatus status);
+
+    @Query("select j.id from PurgeJob j where j.status = :status order by j.id")
+    List<Long> findIdsByStatus(@Param("status") PurgeStatus status);
+
+    @Modifying
+    @Query("update PurgeJob j " +
+            "set j.completedChunks = j.completedChunks + 1, j.purgedRows = j.purgedRows + :purgedRows " +
+            "where j.id = :id")
+    int increaseProgress(@Param("id") Long id, @Param("purgedRows") int purgedRows);
+
+    @Transactional
+    @Modifying
+    @Query("update PurgeJob j set j.status = :status, j.updatedAt = :updatedAt where j.id = :id")
+    int updateStatus(@Param("id") Long id,
+                     @Param("status") PurgeStatus status,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -0,0 +1,7 @@
+package qna.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import qna.domain.QuestionArchive;
+
+public interface QuestionArchiveRepository extends JpaRepository<QuestionArchive, Long> {
+}
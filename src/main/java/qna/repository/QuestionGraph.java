@@ -0,0 +1,5 @@
+package qna.repository;
+
+public enum QuestionGraph {
+    QUESTION, WITH_ANSWERS, WITH_ANSWERS_AND_WRITERS
+}
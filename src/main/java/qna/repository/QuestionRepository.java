@@ -1,13 +1,140 @@
 package qna.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import qna.cache.QuestionSnapshot;
 import qna.domain.Question;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface QuestionRepository extends JpaRepository<Question, Long> {
+    /**
+     * 삭제되지 않은 질문 전체를 한 번에 읽는다. 크기가 정해지지 않은 목록 조회에는 {@link #findFirstPage(Pageable)} 와
+     * {@link #findPageAfter(LocalDateTime, Long, Pageable)} 를 사용한다.
+     */
     List<Question> findByDeletedFalse();
 
+    @Query("select q from Question q where q.deleted = false order by q.createdAt desc, q.id desc")
+    List<Question> findFirstPage(Pageable pageable);
+
+    @Query("select q from Question q " +
+            "where q.deleted = false " +
+            "and (q.createdAt < :createdAt or (q.createdAt = :createdAt and q.id < :id)) " +
+            "order by q.createdAt desc, q.id desc")
+    List<Question> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
     Optional<Question> findByIdAndDeletedFalse(Long id);
+
+    boolean existsByIdAndDeletedFalse(Long id);
+
+    @Query("select distinct q from Question q " +
+            "left join fetch q.writer " +
+            "left join fetch q.answers.values " +
+            "where q.id = :id and q.deleted = false")
+    Optional<Question> findWithAnswersByIdAndDeletedFalse(@Param("id") Long id);
+
+    @Query("select distinct q from Question q " +
+            "left join fetch q.writer " +
+            "left join fetch q.answers.values a " +
+            "left join fetch a.writer " +
+            "where q.id = :id and q.deleted = false")
+    Optional<Question> findWithAnswersAndWritersByIdAndDeletedFalse(@Param("id") Long id);
+
+    @Query("select q.id as id, q.title as title, w.name as writerName, q.createdAt as createdAt, " +
+            "q.answerCount as answerCount " +
+            "from Question q left join q.writer w " +
+            "where q.deleted = false " +
+            "order by q.createdAt desc, q.id desc")
+    List<QuestionSummary> findSummaryFirstPage(Pageable pageable);
+
+    @Query("select q.id as id, q.title as title, w.name as writerName, q.createdAt as createdAt, " +
+            "q.answerCount as answerCount " +
+            "from Question q left join q.writer w " +
+            "where q.deleted = false " +
+            "and (q.createdAt < :createdAt or (q.createdAt = :createdAt and q.id < :id)) " +
+            "order by q.createdAt desc, q.id desc")
+    List<QuestionSummary> findSummaryPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+
+    @Query("select new qna.cache.QuestionSnapshot(q.id, q.title, q.contents, w.id, w.userId, w.name, " +
+            "q.createdAt, q.updatedAt) " +
+            "from Question q left join q.writer w " +
+            "where q.id = :id and q.deleted = false")
+    Optional<QuestionSnapshot> findSnapshotById(@Param("id") Long id);
+
+    /**
+     * 삭제되지 않은 질문에만 답변 수를 늘리고 version 을 올린다.
+     * 같은 질문을 읽어 둔 채 삭제하던 트랜잭션은 flush 할 때 낙관적 락 충돌로 실패하므로, 삭제된 질문에 답변이 붙지 않는다.
+     */
+    @Modifying
+    @Query("update versioned Question q set q.answerCount = q.answerCount + 1 where q.id = :id and q.deleted = false")
+    int increaseAnswerCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Question q set q.answerCount = q.answerCount - :count where q.id = :id")
+    int decreaseAnswerCount(@Param("id") Long id, @Param("count") int count);
+
+    @Query("select min(q.id) from Question q")
+    Long findMinId();
+
+    @Query("select max(q.id) from Question q")
+    Long findMaxId();
+
+    @Transactional
+    @Modifying
+    @Query(value = "update question q " +
+            "set answer_count = (select count(*) from answer a where a.question_id = q.id and a.deleted = false) " +
+            "where q.id between :fromId and :toId " +
+            "and answer_count <> (select count(*) from answer a where a.question_id = q.id and a.deleted = false)",
+            nativeQuery = true)
+    int reconcileAnswerCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    default Optional<Question> findAggregateById(Long id, QuestionGraph graph) {
+        switch (graph) {
+            case WITH_ANSWERS:
+                return findWithAnswersByIdAndDeletedFalse(id);
+            case WITH_ANSWERS_AND_WRITERS:
+                return findWithAnswersAndWritersByIdAndDeletedFalse(id);
+            default:
+                return findByIdAndDeletedFalse(id);
+        }
+    }
+
+    /**
+     * 읽어 둔 version 그대로일 때만 삭제한다. 그 사이 답변이 달리는 등 version 이 바뀌었으면 0 을 돌려준다.
+     */
+    @Modifying
+    @Query("update versioned Question q set q.deleted = true, q.updatedAt = :deletedAt " +
+            "where q.id = :id and q.version = :version and q.deleted = false")
+    int softDeleteById(@Param("id") Long id, @Param("version") long version, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Query("select q.id from Question q " +
+            "where q.writer.id = :writerId and q.deleted = false and q.id > :afterId " +
+            "order by q.id")
+    List<Long> findIdsByWriterIdAfter(@Param("writerId") Long writerId,
+                                      @Param("afterId") Long afterId,
+                                      Pageable pageable);
+
+    @Query("select q.id from Question q " +
+            "where q.writer.id = :writerId and q.deleted = false and q.id between :fromId and :toId " +
+            "order by q.id")
+    List<Long> findIdsByWriterIdBetween(@Param("writerId") Long writerId,
+                                        @Param("fromId") Long fromId,
+                                        @Param("toId") Long toId);
+
+    @Modifying
+    @Query("update versioned Question q set q.deleted = true, q.updatedAt = :deletedAt " +
+            "where q.id in :ids and q.deleted = false")
+    int softDeleteAllByIdIn(@Param("ids") Collection<Long> ids, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Query("select q.id from Question q where q.id in :ids and q.deleted = true")
+    List<Long> findIdsByIdInAndDeletedTrue(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,15 @@
+package qna.repository;
+
+import java.time.LocalDateTime;
+
+public interface QuestionSummary {
+    Long getId();
+
+    String getTitle();
+
+    String getWriterName();
+
+    LocalDateTime getCreatedAt();
+
+    Long getAnswerCount();
+}
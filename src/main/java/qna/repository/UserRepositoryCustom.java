@@ -0,0 +1,9 @@
+package qna.repository;
+
+import qna.domain.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+    Optional<User> findByUserId(String userId);
+}
@@ -0,0 +1,81 @@
+package qna.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RetryOnConflict} 메서드가 {@link OptimisticLockingFailureException} 으로 실패하면 최대 maxAttempts 번까지 다시 실행한다.
+ * <p>
+ * 재시도마다 [0, min(maxBackoff, initialBackoff * 2^(재시도 횟수 - 1))) 사이의 임의 시간만큼 쉬어(full jitter)
+ * 같은 질문에 몰린 쓰기들이 같은 순간에 다시 부딪히지 않게 한다.
+ * 트랜잭션 인터셉터와 다른 서비스 애스펙트보다 바깥에서 감싸 매번 새 트랜잭션으로 실행되며,
+ * 이미 바깥 트랜잭션 안에서 호출되었다면 그 트랜잭션이 롤백 대상이므로 다시 실행하지 않고 예외를 그대로 넘긴다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 3)
+public class ConflictRetryAspect {
+    static final String RETRY_METRIC_NAME = "qna.conflict.retries";
+    static final String EXHAUSTED_METRIC_NAME = "qna.conflict.exhausted";
+
+    private final ConflictRetryProperties properties;
+    private final Counter retries;
+    private final Counter exhausted;
+
+    public ConflictRetryAspect(ConflictRetryProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.retries = Counter.builder(RETRY_METRIC_NAME)
+                .description("Service calls retried after an optimistic locking conflict")
+                .register(meterRegistry);
+        this.exhausted = Counter.builder(EXHAUSTED_METRIC_NAME)
+                .description("Service calls that failed after exhausting conflict retries")
+                .register(meterRegistry);
+    }
+
+    @Around("@annotation(qna.retry.RetryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= properties.getMaxAttempts()) {
+                    exhausted.increment();
+                    throw e;
+                }
+                retries.increment();
+                log.debug("{} 낙관적 락 충돌, {}번째 재시도", joinPoint.getSignature().toShortString(), attempt);
+                backoff(attempt, e);
+            }
+        }
+    }
+
+    private void backoff(int attempt, OptimisticLockingFailureException cause) {
+        long ceiling = Math.min(properties.getMaxBackoff().toNanos(),
+                                properties.getInitialBackoff().toNanos() << Math.min(attempt - 1, 20));
+        if (ceiling <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(ceiling));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
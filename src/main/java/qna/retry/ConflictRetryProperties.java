@@ -0,0 +1,16 @@
+package qna.retry;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "qna.conflict-retry")
+@Getter
+@Setter
+public class ConflictRetryProperties {
+    private int maxAttempts = 3;
+    private Duration initialBackoff = Duration.ofMillis(10);
+    private Duration maxBackoff = Duration.ofMillis(200);
+}
@@ -0,0 +1,17 @@
+package qna.retry;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락 충돌로 트랜잭션이 실패하면 메서드 전체를 새 트랜잭션으로 다시 실행한다.
+ * 다시 실행해도 안전한(멱등하거나 실패 시 모두 롤백되는) 메서드에만 붙인다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+}
@@ -0,0 +1,192 @@
+package qna.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import qna.event.QuestionChangedEvent;
+import qna.repository.QuestionRepository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link QuestionSearchIndex} 를 DB 와 맞춘다.
+ * <p>
+ * 커밋된 트랜잭션의 {@link QuestionChangedEvent} 로 바뀐 질문 id 를 모아 두었다가 refreshInterval 마다 한 번에 다시 색인한다.
+ * 한 트랜잭션에서 같은 질문의 답변이 여러 개 바뀌어도 한 번만 색인하며, 요청 스레드는 색인을 기다리지 않는다.
+ * 전체 재색인은 id 구간을 나누어 여러 스레드로 처리하고, 재색인 중에 바뀐 질문은 끝난 뒤 다시 색인한다.
+ */
+@Slf4j
+@Component
+public class QuestionIndexer implements DisposableBean {
+    private static final String ERROR_MESSAGE_REINDEX_RUNNING = "이미 전체 재색인이 진행 중입니다.";
+    private static final int BATCH_SIZE = 500;
+
+    private final SearchProperties properties;
+    private final QuestionSearchIndex index;
+    private final SearchDocumentLoader loader;
+    private final QuestionRepository questionRepository;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final Set<Long> changedDuringReindex = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean reindexing = new AtomicBoolean();
+    private final ScheduledExecutorService refresher;
+
+    public QuestionIndexer(SearchProperties properties,
+                           QuestionSearchIndex index,
+                           SearchDocumentLoader loader,
+                           QuestionRepository questionRepository) {
+        this.properties = properties;
+        this.index = index;
+        this.loader = loader;
+        this.questionRepository = questionRepository;
+        this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "question-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuestionChanged(QuestionChangedEvent event) {
+        if (event.isAll()) {
+            return;
+        }
+        pending.add(event.getQuestionId());
+        if (reindexing.get()) {
+            changedDuringReindex.add(event.getQuestionId());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (properties.isReindexOnStartup() && index.numDocs() == 0) {
+            reindexAll();
+        }
+        long interval = properties.getRefreshInterval().toMillis();
+        refresher.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 모아 둔 질문을 다시 색인하고 검색에 보이게 한다. 실패하면 다음 번에 다시 시도하도록 id 를 되돌려 놓는다.
+     */
+    public synchronized int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        List<Long> questionIds = new ArrayList<>(pending);
+        pending.removeAll(questionIds);
+        try {
+            for (int from = 0; from < questionIds.size(); from += BATCH_SIZE) {
+                List<Long> batch = questionIds.subList(from, Math.min(from + BATCH_SIZE, questionIds.size()));
+                index.update(batch, loader.load(batch));
+            }
+            index.commit();
+            index.refresh();
+        } catch (RuntimeException e) {
+            pending.addAll(questionIds);
+            throw e;
+        }
+        return questionIds.size();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("검색 색인을 갱신하지 못했습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    /**
+     * 모든 질문을 reindexPartitionSize 크기의 id 구간으로 나누어 reindexParallelism 개의 스레드로 다시 색인한다.
+     * 구간 밖(보관 테이블로 옮겨진 질문 등)의 문서는 지운다.
+     */
+    public int reindexAll() {
+        if (!reindexing.compareAndSet(false, true)) {
+            throw new IllegalStateException(ERROR_MESSAGE_REINDEX_RUNNING);
+        }
+        long startedAt = System.nanoTime();
+        try {
+            Long minId = questionRepository.findMinId();
+            Long maxId = questionRepository.findMaxId();
+            if (Objects.isNull(minId) || Objects.isNull(maxId)) {
+                index.replaceRange(Long.MIN_VALUE, Long.MAX_VALUE, Collections.emptyList());
+                index.commit();
+                index.refresh();
+                return 0;
+            }
+            index.replaceRange(Long.MIN_VALUE, minId - 1, Collections.emptyList());
+            index.replaceRange(maxId + 1, Long.MAX_VALUE, Collections.emptyList());
+            int indexed = reindexPartitions(minId, maxId);
+            index.commit();
+            index.refresh();
+            log.info("질문 {}건을 다시 색인했습니다. ({}ms)", indexed,
+                     TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            return indexed;
+        } finally {
+            reindexing.set(false);
+            pending.addAll(changedDuringReindex);
+            changedDuringReindex.clear();
+        }
+    }
+
+    private int reindexPartitions(long minId, long maxId) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getReindexParallelism(), runnable -> {
+            Thread thread = new Thread(runnable, "question-reindex-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            long partitionSize = properties.getReindexPartitionSize();
+            List<Future<Integer>> partitions = new ArrayList<>();
+            for (long fromId = minId; fromId <= maxId; fromId += partitionSize) {
+                long from = fromId;
+                long to = Math.min(fromId + partitionSize - 1, maxId);
+                partitions.add(executor.submit(() -> index.replaceRange(from, to, loader.loadRange(from, to))));
+            }
+            int indexed = 0;
+            for (Future<Integer> partition : partitions) {
+                indexed += await(partition);
+            }
+            return indexed;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static int await(Future<Integer> partition) {
+        try {
+            return partition.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        refresher.shutdown();
+        flushQuietly();
+    }
+}
@@ -0,0 +1,211 @@
+package qna.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 질문 제목, 본문, 삭제되지 않은 답변 본문을 질문 하나당 문서 하나로 담는 Lucene 색인.
+ * <p>
+ * 한국어는 형태소 사전 없이 CJKAnalyzer 의 bigram 으로 나눈다. 쓰기는 IndexWriter 가, 읽기는 SearcherManager 가
+ * 맡으므로 여러 스레드에서 동시에 불러도 된다. 변경은 {@link #refresh()} 이후 검색에 보이고 {@link #commit()} 이후 디스크에 남는다.
+ */
+@Component
+public class QuestionSearchIndex implements DisposableBean {
+    public static final int MAX_RESULT_WINDOW = 1_000;
+    private static final String ERROR_MESSAGE_RESULT_WINDOW = "검색 결과는 앞에서부터 " + MAX_RESULT_WINDOW + "건까지만 볼 수 있습니다.";
+    private static final String ERROR_MESSAGE_INVALID_QUERY = "검색어를 해석할 수 없습니다.";
+    private static final String ID = "id";
+    private static final String ID_POINT = "idPoint";
+    private static final String TITLE = "title";
+    private static final String CONTENTS = "contents";
+    private static final String ANSWERS = "answers";
+    private static final Map<String, Float> BOOSTS;
+
+    static {
+        Map<String, Float> boosts = new HashMap<>();
+        boosts.put(TITLE, 2.0f);
+        boosts.put(CONTENTS, 1.0f);
+        boosts.put(ANSWERS, 0.5f);
+        BOOSTS = Collections.unmodifiableMap(boosts);
+    }
+
+    private final Analyzer analyzer = new CJKAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public QuestionSearchIndex(SearchProperties properties) throws IOException {
+        this.directory = Objects.isNull(properties.getPath())
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(Files.createDirectories(properties.getPath()));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    /**
+     * questionIds 의 문서를 documents 로 바꾼다. documents 에 없거나 삭제된 질문의 문서는 지운다.
+     */
+    public void update(Collection<Long> questionIds, List<SearchDocument> documents) {
+        Map<Long, SearchDocument> byId = documents.stream()
+                .collect(Collectors.toMap(SearchDocument::getId, Function.identity()));
+        try {
+            for (Long questionId : questionIds) {
+                SearchDocument document = byId.get(questionId);
+                if (Objects.isNull(document) || document.isDeleted()) {
+                    writer.deleteDocuments(idTerm(questionId));
+                    continue;
+                }
+                writer.updateDocument(idTerm(questionId), toDocument(document));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * id 가 [fromId, toId] 인 문서를 documents 로 바꾼다. documents 에 없는 id 의 문서는 지운다.
+     * 살아 있는 문서는 지웠다 다시 넣지 않고 바꾸므로, 도중에 refresh 되어도 검색 결과에서 빠지지 않는다.
+     */
+    public int replaceRange(long fromId, long toId, List<SearchDocument> documents) {
+        List<SearchDocument> live = documents.stream()
+                .filter(document -> !document.isDeleted())
+                .collect(Collectors.toList());
+        List<BytesRef> liveIds = live.stream()
+                .map(document -> new BytesRef(String.valueOf(document.getId())))
+                .collect(Collectors.toList());
+        Query stale = new BooleanQuery.Builder()
+                .add(LongPoint.newRangeQuery(ID_POINT, fromId, toId), BooleanClause.Occur.FILTER)
+                .add(new TermInSetQuery(ID, liveIds), BooleanClause.Occur.MUST_NOT)
+                .build();
+        try {
+            writer.deleteDocuments(stale);
+            for (SearchDocument document : live) {
+                writer.updateDocument(idTerm(document.getId()), toDocument(document));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return live.size();
+    }
+
+    public Page<Long> search(String text, Pageable pageable) {
+        if (pageable.getOffset() + pageable.getPageSize() > MAX_RESULT_WINDOW) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_RESULT_WINDOW);
+        }
+        if (Objects.isNull(text) || text.trim().isEmpty()) {
+            return Page.empty(pageable);
+        }
+        Query query = parse(text);
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, (int) pageable.getOffset() + pageable.getPageSize());
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                List<Long> questionIds = new ArrayList<>(pageable.getPageSize());
+                for (int i = (int) pageable.getOffset(); i < scoreDocs.length; i++) {
+                    questionIds.add(Long.valueOf(searcher.doc(scoreDocs[i].doc).get(ID)));
+                }
+                return new PageImpl<>(questionIds, pageable, topDocs.totalHits.value);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Query parse(String text) {
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(new String[]{TITLE, CONTENTS, ANSWERS}, analyzer, BOOSTS);
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        try {
+            return parser.parse(QueryParser.escape(text));
+        } catch (ParseException e) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_INVALID_QUERY, e);
+        }
+    }
+
+    public int numDocs() {
+        return writer.getDocStats().numDocs;
+    }
+
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void commit() {
+        try {
+            writer.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private static Term idTerm(Long questionId) {
+        return new Term(ID, String.valueOf(questionId));
+    }
+
+    private static Document toDocument(SearchDocument source) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(source.getId()), Field.Store.YES));
+        document.add(new LongPoint(ID_POINT, source.getId()));
+        document.add(new TextField(TITLE, Objects.toString(source.getTitle(), ""), Field.Store.NO));
+        document.add(new TextField(CONTENTS, Objects.toString(source.getContents(), ""), Field.Store.NO));
+        for (String answer : source.getAnswers()) {
+            document.add(new TextField(ANSWERS, Objects.toString(answer, ""), Field.Store.NO));
+        }
+        return document;
+    }
+}
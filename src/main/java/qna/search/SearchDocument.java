@@ -0,0 +1,29 @@
+package qna.search;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 색인할 질문 하나. 삭제되지 않은 답변의 본문을 함께 담는다.
+ */
+@Getter
+public class SearchDocument {
+    private final Long id;
+    private final String title;
+    private final String contents;
+    private final boolean deleted;
+    private final List<String> answers = new ArrayList<>();
+
+    public SearchDocument(Long id, String title, String contents, boolean deleted) {
+        this.id = id;
+        this.title = title;
+        this.contents = contents;
+        this.deleted = deleted;
+    }
+
+    void addAnswer(String contents) {
+        answers.add(contents);
+    }
+}
@@ -0,0 +1,64 @@
+package qna.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 색인할 질문과 삭제되지 않은 답변 본문을 JDBC 로 읽는다. 영속성 컨텍스트에 엔티티를 쌓지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchDocumentLoader {
+    private static final String SELECT_QUESTIONS_BY_IDS = "select id, title, contents, deleted from question " +
+            "where id in (:ids)";
+    private static final String SELECT_ANSWERS_BY_QUESTION_IDS = "select question_id, contents from answer " +
+            "where question_id in (:ids) and deleted = false order by id";
+    private static final String SELECT_QUESTIONS_IN_RANGE = "select id, title, contents, deleted from question " +
+            "where id between :fromId and :toId";
+    private static final String SELECT_ANSWERS_IN_RANGE = "select question_id, contents from answer " +
+            "where question_id between :fromId and :toId and deleted = false order by id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<SearchDocument> load(Collection<Long> questionIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", questionIds);
+        return load(SELECT_QUESTIONS_BY_IDS, SELECT_ANSWERS_BY_QUESTION_IDS, params);
+    }
+
+    public List<SearchDocument> loadRange(long fromId, long toId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fromId", fromId)
+                .addValue("toId", toId);
+        return load(SELECT_QUESTIONS_IN_RANGE, SELECT_ANSWERS_IN_RANGE, params);
+    }
+
+    private List<SearchDocument> load(String selectQuestions, String selectAnswers, MapSqlParameterSource params) {
+        Map<Long, SearchDocument> documents = new LinkedHashMap<>();
+        jdbcTemplate.query(selectQuestions, params, resultSet -> {
+            SearchDocument document = new SearchDocument(resultSet.getLong("id"),
+                                                         resultSet.getString("title"),
+                                                         resultSet.getString("contents"),
+                                                         resultSet.getBoolean("deleted"));
+            documents.put(document.getId(), document);
+        });
+        if (documents.isEmpty()) {
+            return new ArrayList<>();
+        }
+        jdbcTemplate.query(selectAnswers, params, resultSet -> {
+            SearchDocument document = documents.get(resultSet.getLong("question_id"));
+            if (Objects.nonNull(document)) {
+                document.addAnswer(resultSet.getString("contents"));
+            }
+        });
+        return new ArrayList<>(documents.values());
+    }
+}
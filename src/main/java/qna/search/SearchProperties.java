@@ -0,0 +1,22 @@
+package qna.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "qna.search")
+@Getter
+@Setter
+public class SearchProperties {
+    /**
+     * 색인 디렉터리. 지정하지 않으면 메모리에 두고 시작할 때마다 다시 만든다.
+     */
+    private Path path;
+    private Duration refreshInterval = Duration.ofSeconds(1);
+    private boolean reindexOnStartup = true;
+    private int reindexPartitionSize = 10_000;
+    private int reindexParallelism = 4;
+}
@@ -0,0 +1,12 @@
+package qna.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "qna.answer-count")
+@Getter
+@Setter
+public class AnswerCountProperties {
+    private int reconcileChunkSize = 1_000;
+}
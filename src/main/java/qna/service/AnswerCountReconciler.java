@@ -0,0 +1,34 @@
+package qna.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import qna.repository.QuestionRepository;
+
+import java.util.Objects;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnswerCountReconciler {
+    private final AnswerCountProperties properties;
+    private final QuestionRepository questionRepository;
+
+    @Scheduled(cron = "${qna.answer-count.reconcile-cron:0 0 4 * * *}")
+    public int reconcile() {
+        Long minId = questionRepository.findMinId();
+        Long maxId = questionRepository.findMaxId();
+        if (Objects.isNull(minId) || Objects.isNull(maxId)) {
+            return 0;
+        }
+
+        int chunkSize = properties.getReconcileChunkSize();
+        int reconciled = 0;
+        for (long fromId = minId; fromId <= maxId; fromId += chunkSize) {
+            reconciled += questionRepository.reconcileAnswerCounts(fromId, fromId + chunkSize - 1);
+        }
+        log.info("답변 수가 어긋난 질문 {}건을 보정했습니다.", reconciled);
+        return reconciled;
+    }
+}
@@ -0,0 +1,31 @@
+package qna.service;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+public class CursorPage<T> {
+    private final List<T> content;
+    private final String nextCursor;
+
+    private CursorPage(List<T> content, String nextCursor) {
+        this.content = Collections.unmodifiableList(content);
+        this.nextCursor = nextCursor;
+    }
+
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, String> cursorEncoder) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(new ArrayList<>(fetched), null);
+        }
+        List<T> content = new ArrayList<>(fetched.subList(0, size));
+        return new CursorPage<>(content, cursorEncoder.apply(content.get(size - 1)));
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -1,28 +1,57 @@
 package qna.service;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import qna.domain.DeleteHistory;
-import qna.repository.DeleteHistoryRepository;
+import qna.journal.DeleteHistoryJournal;
+import qna.journal.JournalEntry;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 public class DeleteHistoryService {
-    private DeleteHistoryRepository deleteHistoryRepository;
+    private DeleteHistoryJournal deleteHistoryJournal;
 
-    public DeleteHistoryService(DeleteHistoryRepository deleteHistoryRepository) {
-        this.deleteHistoryRepository = deleteHistoryRepository;
+    public DeleteHistoryService(DeleteHistoryJournal deleteHistoryJournal) {
+        this.deleteHistoryJournal = deleteHistoryJournal;
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    /**
+     * 트랜잭션 안에서 호출하면 커밋 직전에 저널에 기록하고, 커밋된 뒤에 비동기로 저장한다.
+     */
     public void saveAll(List<DeleteHistory> deleteHistories) {
-        deleteHistoryRepository.saveAll(deleteHistories);
+        List<JournalEntry> entries = deleteHistories.stream()
+                .map(JournalEntry::from)
+                .collect(Collectors.toList());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteHistoryJournal.append(entries);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private List<JournalEntry> journaled = Collections.emptyList();
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                journaled = deleteHistoryJournal.prepare(entries);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    deleteHistoryJournal.publish(journaled);
+                    return;
+                }
+                deleteHistoryJournal.discard(journaled);
+            }
+        });
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void save(DeleteHistory deleteHistory) {
-        deleteHistoryRepository.save(deleteHistory);
+        saveAll(Collections.singletonList(deleteHistory));
     }
 }
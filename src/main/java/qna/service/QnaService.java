@@ -1,33 +1,196 @@
 package qna.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import qna.cache.QuestionCache;
+import qna.cache.QuestionSnapshot;
+import qna.domain.Answer;
+import qna.domain.ContentType;
 import qna.domain.DeleteHistory;
 import qna.domain.Question;
 import qna.domain.User;
+import qna.event.QuestionChangedEvent;
 import qna.exception.CannotDeleteException;
 import qna.exception.NotFoundException;
+import qna.exception.UnAuthorizedException;
+import qna.retry.RetryOnConflict;
+import qna.search.QuestionSearchIndex;
+import qna.repository.AnswerRepository;
+import qna.repository.AnswerSummary;
+import qna.repository.QuestionGraph;
 import qna.repository.QuestionRepository;
+import qna.repository.QuestionSummary;
+import qna.repository.UserRepository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class QnaService {
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final String ERROR_MESSAGE_INVALID_PAGE_SIZE = "페이지 크기는 1 이상이어야 합니다.";
+
     private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final UserRepository userRepository;
     private final DeleteHistoryService deleteHistoryService;
+    private final QuestionCache questionCache;
+    private final QuestionSearchIndex questionSearchIndex;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
+    /**
+     * 수정할 질문 엔티티를 DB 에서 읽는다. 호출한 트랜잭션에 참여해 영속 상태의 엔티티를 돌려주므로 캐시를 거치지 않는다.
+     * 화면에 보여 주기만 하는 읽기는 {@link #findQuestionSnapshot(Long)} 을 사용한다.
+     */
     @Transactional(readOnly = true)
     public Question findQuestionById(Long id) {
         return questionRepository.findByIdAndDeletedFalse(id)
                 .orElseThrow(NotFoundException::new);
     }
 
+    /**
+     * 질문 조회의 기본 경로. 질문과 답변의 불변 스냅숏을 캐시에서 돌려주고, 없을 때만 DB 에서 읽는다.
+     * 질문이나 답변이 바뀌면 커밋 시점에 캐시에서 지운다.
+     */
+    public QuestionSnapshot findQuestionSnapshot(Long id) {
+        return questionCache.get(id);
+    }
+
+    @Transactional(readOnly = true)
+    public Question findQuestionById(Long id, QuestionGraph graph) {
+        return questionRepository.findAggregateById(id, graph)
+                .orElseThrow(NotFoundException::new);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Question> findQuestions(String cursor, int size) {
+        int pageSize = validatePageSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        if (cursor == null) {
+            return CursorPage.of(questionRepository.findFirstPage(limit), pageSize, QnaService::encodeCursor);
+        }
+        QuestionCursor questionCursor = QuestionCursor.decode(cursor);
+        List<Question> questions = questionRepository.findPageAfter(questionCursor.getCreatedAt(),
+                                                                    questionCursor.getId(),
+                                                                    limit);
+        return CursorPage.of(questions, pageSize, QnaService::encodeCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<QuestionSummary> findQuestionSummaries(String cursor, int size) {
+        int pageSize = validatePageSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        if (cursor == null) {
+            return CursorPage.of(questionRepository.findSummaryFirstPage(limit), pageSize, QnaService::encodeCursor);
+        }
+        QuestionCursor questionCursor = QuestionCursor.decode(cursor);
+        List<QuestionSummary> summaries = questionRepository.findSummaryPageAfter(questionCursor.getCreatedAt(),
+                                                                                  questionCursor.getId(),
+                                                                                  limit);
+        return CursorPage.of(summaries, pageSize, QnaService::encodeCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public List<AnswerSummary> findAnswerSummaries(Long questionId) {
+        return answerRepository.findSummariesByQuestionId(questionId);
+    }
+
+    /**
+     * 제목, 본문, 답변 본문에 검색어가 들어간 질문 id 를 관련도 순으로 돌려준다.
+     * 색인은 커밋 후 비동기로 갱신되므로 방금 바뀐 질문은 잠시 뒤에 반영된다.
+     */
+    public Page<Long> searchQuestionIds(String query, int page, int size) {
+        return questionSearchIndex.search(query, PageRequest.of(page, validatePageSize(size)));
+    }
+
+    private static int validatePageSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_INVALID_PAGE_SIZE);
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    private static String encodeCursor(Question question) {
+        return QuestionCursor.from(question).encode();
+    }
+
+    private static String encodeCursor(QuestionSummary summary) {
+        return new QuestionCursor(summary.getCreatedAt(), summary.getId()).encode();
+    }
+
+    @RetryOnConflict
+    @Transactional
+    public Answer addAnswer(User loginUser, Long questionId, String contents) {
+        if (loginUser.isGuestUser()) {
+            throw new UnAuthorizedException();
+        }
+        if (questionRepository.increaseAnswerCount(questionId) == 0) {
+            throw new NotFoundException();
+        }
+        Question question = questionRepository.getById(questionId);
+        return answerRepository.save(Answer.post(userRepository.getById(loginUser.getId()), question, contents));
+    }
+
+    @RetryOnConflict
     @Transactional
     public void deleteQuestion(User loginUser, Long questionId) throws CannotDeleteException {
         Question question = findQuestionById(questionId);
         List<DeleteHistory> deleteHistories = question.delete(loginUser);
+        questionRepository.decreaseAnswerCount(questionId, countAnswers(deleteHistories));
+        deleteHistoryService.saveAll(deleteHistories);
+    }
+
+    private static int countAnswers(List<DeleteHistory> deleteHistories) {
+        return (int) deleteHistories.stream()
+                .filter(deleteHistory -> deleteHistory.getContentType() == ContentType.ANSWER)
+                .count();
+    }
+
+    @RetryOnConflict
+    @Transactional
+    public void deleteQuestionInBulk(User loginUser, Long questionId) throws CannotDeleteException {
+        Question question = findQuestionById(questionId);
+        question.validateDeletable(loginUser);
+        if (answerRepository.existsByQuestionIdAndDeletedFalseAndWriterNot(questionId, loginUser)) {
+            throw new CannotDeleteException(Answer.ERROR_MESSAGE_EXISTS_OTHER_WRITER_ANSWER);
+        }
+
+        List<Long> answerIds = answerRepository.findIdsByQuestionIdAndDeletedFalse(questionId);
+        LocalDateTime deletedAt = LocalDateTime.now();
+        // 삭제 이력을 남기는 답변과 같은 행만 지우도록 question_id 대신 조회한 id 로 삭제한다.
+        // 그 사이 다른 트랜잭션이 지운 답변이 있으면 이력과 답변 수가 어긋나므로 충돌로 보고 다시 실행한다.
+        if (!answerIds.isEmpty() && answerRepository.softDeleteAllByIdIn(answerIds, deletedAt) != answerIds.size()) {
+            throw new ObjectOptimisticLockingFailureException(Answer.class, questionId);
+        }
+        if (questionRepository.softDeleteById(questionId, question.getVersion(), deletedAt) == 0) {
+            throw conflictOrNotFound(questionId);
+        }
+        questionRepository.decreaseAnswerCount(questionId, answerIds.size());
+        applicationEventPublisher.publishEvent(QuestionChangedEvent.of(questionId));
+
+        List<DeleteHistory> deleteHistories = new ArrayList<>();
+        deleteHistories.add(DeleteHistory.from(question));
+        answerIds.forEach(answerId -> deleteHistories.add(DeleteHistory.ofAnswer(answerId, question.getWriter())));
         deleteHistoryService.saveAll(deleteHistories);
     }
+
+    /**
+     * 삭제할 행이 없으면 이미 삭제된 것인지, 읽은 뒤 다른 트랜잭션이 version 을 올린 것인지 구분한다.
+     * 뒤의 경우는 {@link RetryOnConflict} 가 다시 실행하도록 낙관적 락 충돌로 알린다.
+     */
+    private RuntimeException conflictOrNotFound(Long questionId) {
+        if (questionRepository.existsByIdAndDeletedFalse(questionId)) {
+            return new ObjectOptimisticLockingFailureException(Question.class, questionId);
+        }
+        return new NotFoundException();
+    }
 }
@@ -0,0 +1,26 @@
+-- 기존 identity 컬럼을 사용하던 데이터베이스를 pooled-lo 시퀀스 채번으로 전환하는 문장을 만든다.
+-- H2 1.4.200 의 RESTART WITH 는 서브쿼리를 받지 않으므로 두 단계로 실행한다.
+--   1. 애플리케이션을 멈춘 뒤 이 쿼리를 실행한다. 테이블마다 현재 최대 id 를 literal 로 넣은 문장이 한 행씩 나온다.
+--   2. 나온 문장을 그대로 실행한 뒤 새 버전의 애플리케이션을 띄운다.
+-- 시퀀스는 엔티티의 allocationSize(50)와 같은 값으로 증가해야 하고, 기존 최대 id 다음부터 시작해야 한다.
+-- id 컬럼의 identity 기본값은 남겨 두어도 된다. Hibernate 가 항상 id 를 직접 지정해 insert 한다.
+
+SELECT 'CREATE SEQUENCE IF NOT EXISTS user_seq START WITH 1 INCREMENT BY 50;'
+UNION ALL
+SELECT 'ALTER SEQUENCE user_seq RESTART WITH ' || CAST(COALESCE(MAX(id), 0) + 1 AS VARCHAR) || ' INCREMENT BY 50;'
+FROM user
+UNION ALL
+SELECT 'CREATE SEQUENCE IF NOT EXISTS question_seq START WITH 1 INCREMENT BY 50;'
+UNION ALL
+SELECT 'ALTER SEQUENCE question_seq RESTART WITH ' || CAST(COALESCE(MAX(id), 0) + 1 AS VARCHAR) || ' INCREMENT BY 50;'
+FROM question
+UNION ALL
+SELECT 'CREATE SEQUENCE IF NOT EXISTS answer_seq START WITH 1 INCREMENT BY 50;'
+UNION ALL
+SELECT 'ALTER SEQUENCE answer_seq RESTART WITH ' || CAST(COALESCE(MAX(id), 0) + 1 AS VARCHAR) || ' INCREMENT BY 50;'
+FROM answer
+UNION ALL
+SELECT 'CREATE SEQUENCE IF NOT EXISTS delete_history_seq START WITH 1 INCREMENT BY 50;'
+UNION ALL
+SELECT 'ALTER SEQUENCE delete_history_seq RESTART WITH ' || CAST(COALESCE(MAX(id), 0) + 1 AS VARCHAR) || ' INCREMENT BY 50;'
+FROM delete_history;
@@ -0,0 +1,174 @@
+package qna.perf;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.domain.Question;
+import qna.domain.QuestionTest;
+import qna.domain.User;
+import qna.domain.UserTest;
+import qna.exception.NotFoundException;
+import qna.repository.DeleteHistoryRepository;
+import qna.repository.QuestionRepository;
+import qna.repository.UserRepository;
+import qna.service.QnaService;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 질문에 쓰기가 몰릴 때의 처리량과 낙관적 락 재시도 횟수를 잰다.
+ * <ul>
+ *     <li>addAnswer: 여러 스레드가 소수의 인기 질문에 답변을 단다.</li>
+ *     <li>deleteQuestion: 질문마다 racersPerQuestion 개의 스레드가 동시에 삭제를 요청한다. 하나만 성공해야 한다.</li>
+ * </ul>
+ * 결과는 build/reports/perf/contention.json 에 남기며, 삭제 이력이 질문 수보다 많이 남으면 실패한다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=warn",
+        "qna.delete-history.journal.enabled=false",
+        "qna.purge.resume-on-startup=false"
+})
+class ContentionBenchmark {
+    private static final int THREADS = Integer.getInteger("perf.threads", 8);
+    private static final int HOT_QUESTIONS = Integer.getInteger("perf.contention.hotQuestions", 2);
+    private static final int ANSWERS = Integer.getInteger("perf.contention.answers", 2_000);
+    private static final int DELETED_QUESTIONS = Integer.getInteger("perf.contention.deletedQuestions", 500);
+    private static final int RACERS_PER_QUESTION = Integer.getInteger("perf.contention.racersPerQuestion", 2);
+    private static final String RETRY_METRIC_NAME = "qna.conflict.retries";
+    private static final Path REPORT_DIR = Paths.get(System.getProperty("perf.reportDir", "build/reports/perf"));
+
+    @Autowired
+    private QnaService qnaService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private DeleteHistoryRepository deleteHistoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<Long, User> writers = new HashMap<>();
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        String dbDir = System.getProperty("perf.dbDir", "build/perf");
+        registry.add("spring.datasource.url", () -> "jdbc:h2:file:" + Paths.get(dbDir, "contention").toAbsolutePath() +
+                ";DB_CLOSE_ON_EXIT=FALSE");
+    }
+
+    @Test
+    void run() throws Exception {
+        User answerer = userRepository.save(UserTest.newInstance());
+        List<Long> hotQuestionIds = seed(HOT_QUESTIONS);
+        List<Long> deletedQuestionIds = seed(DELETED_QUESTIONS);
+        long historiesBefore = deleteHistoryRepository.count();
+
+        Map<String, Double> retries = new LinkedHashMap<>();
+        List<OperationResult> results = new ArrayList<>();
+
+        List<Long> answerTargets = new ArrayList<>(ANSWERS);
+        for (int i = 0; i < ANSWERS; i++) {
+            answerTargets.add(hotQuestionIds.get(i % hotQuestionIds.size()));
+        }
+        results.add(measure("addAnswer", answerTargets,
+                            id -> qnaService.addAnswer(answerer, id, "contended answer"), retries));
+
+        List<Long> deleteTargets = new ArrayList<>(DELETED_QUESTIONS * RACERS_PER_QUESTION);
+        for (Long id : deletedQuestionIds) {
+            for (int i = 0; i < RACERS_PER_QUESTION; i++) {
+                deleteTargets.add(id);
+            }
+        }
+        AtomicInteger lostRaces = new AtomicInteger();
+        results.add(measure("deleteQuestion", deleteTargets, id -> {
+            try {
+                qnaService.deleteQuestion(writers.get(id), id);
+            } catch (NotFoundException e) {
+                lostRaces.incrementAndGet();
+            }
+        }, retries));
+        long histories = deleteHistoryRepository.count() - historiesBefore;
+
+        report(results, retries, lostRaces.get(), histories);
+        assertThat(results).allSatisfy(result -> assertThat(result.getFailures()).as(result.getName()).isZero());
+        assertThat(histories).as("delete histories").isEqualTo(DELETED_QUESTIONS);
+        assertThat(lostRaces.get()).as("lost races").isEqualTo(DELETED_QUESTIONS * (RACERS_PER_QUESTION - 1));
+    }
+
+    private List<Long> seed(int count) {
+        return transactionTemplate.execute(status -> {
+            User writer = userRepository.save(UserTest.newInstance());
+            List<Long> ids = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Question question = questionRepository.save(QuestionTest.from(writer));
+                writers.put(question.getId(), writer);
+                ids.add(question.getId());
+            }
+            return ids;
+        });
+    }
+
+    private OperationResult measure(String name, List<Long> ids, Consumer<Long> operation,
+                                    Map<String, Double> retries) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        double retriesBefore = meterRegistry.counter(RETRY_METRIC_NAME).count();
+        OperationResult result = LoadRunner.run(name, THREADS, ids, operation, statistics);
+        retries.put(name, meterRegistry.counter(RETRY_METRIC_NAME).count() - retriesBefore);
+        return result;
+    }
+
+    private static void report(List<OperationResult> results, Map<String, Double> retries, int lostRaces,
+                               long histories) throws IOException {
+        results.forEach(result -> System.out.printf(Locale.ROOT, "%s retries=%.0f%n", result, retries.get(result.getName())));
+        System.out.printf(Locale.ROOT, "lost delete races: %d, delete histories: %d%n", lostRaces, histories);
+
+        String json = String.format(Locale.ROOT,
+                                    "{\"threads\":%d,\"hotQuestions\":%d,\"racersPerQuestion\":%d," +
+                                            "\"retries\":{%s},\"lostRaces\":%d,\"deleteHistories\":%d," +
+                                            "\"operations\":[%s]}%n",
+                                    THREADS, HOT_QUESTIONS, RACERS_PER_QUESTION,
+                                    retries.entrySet().stream()
+                                            .map(entry -> String.format(Locale.ROOT, "\"%s\":%.0f",
+                                                                        entry.getKey(), entry.getValue()))
+                                            .collect(Collectors.joining(",")),
+                                    lostRaces, histories,
+                                    results.stream().map(OperationResult::toJson).collect(Collectors.joining(",")));
+        Files.createDirectories(REPORT_DIR);
+        Files.write(REPORT_DIR.resolve("contention.json"), json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,55 @@
+package qna.perf;
+
+import org.hibernate.stat.Statistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 고정된 수의 스레드가 ids 를 하나씩 가져가 operation 을 실행하고, 연산별 지연과 전체 처리량, SQL 수를 모은다.
+ * operation 이 던진 RuntimeException 은 실패로 센다.
+ */
+final class LoadRunner {
+
+    private LoadRunner() {
+    }
+
+    static OperationResult run(String name, int threads, List<Long> ids, Consumer<Long> operation,
+                               Statistics statistics) throws Exception {
+        statistics.clear();
+
+        long[] latencies = new long[ids.size()];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long startedAt = System.nanoTime();
+        List<Future<?>> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            workers.add(executor.submit(() -> {
+                int index;
+                while ((index = next.getAndIncrement()) < ids.size()) {
+                    long operationStartedAt = System.nanoTime();
+                    try {
+                        operation.accept(ids.get(index));
+                    } catch (RuntimeException e) {
+                        failures.incrementAndGet();
+                    }
+                    latencies[index] = System.nanoTime() - operationStartedAt;
+                }
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        return new OperationResult(name, latencies, failures.get(), elapsedNanos,
+                                   statistics.getPrepareStatementCount());
+    }
+}
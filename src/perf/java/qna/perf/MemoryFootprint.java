@@ -0,0 +1,36 @@
+package qna.perf;
+
+import lombok.Getter;
+
+import java.util.Locale;
+
+/**
+ * 영속성 컨텍스트에 올린 질문 하나가 차지하는 힙. contents 를 읽기 전과 읽은 뒤를 함께 기록해 지연 로딩으로 아낀 크기를 보여 준다.
+ */
+@Getter
+class MemoryFootprint {
+    private final long bytesPerQuestion;
+    private final long bytesPerQuestionWithContents;
+
+    MemoryFootprint(long bytesPerQuestion, long bytesPerQuestionWithContents) {
+        this.bytesPerQuestion = bytesPerQuestion;
+        this.bytesPerQuestionWithContents = bytesPerQuestionWithContents;
+    }
+
+    long getSavedBytesPerQuestion() {
+        return bytesPerQuestionWithContents - bytesPerQuestion;
+    }
+
+    String toJson() {
+        return String.format(Locale.ROOT,
+                             "{\"bytesPerLoadedQuestion\":%d,\"bytesPerLoadedQuestionWithContents\":%d," +
+                                     "\"savedBytesPerQuestion\":%d}",
+                             bytesPerQuestion, bytesPerQuestionWithContents, getSavedBytesPerQuestion());
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "bytes per loaded question: %d lazy, %d with contents, %d saved",
+                             bytesPerQuestion, bytesPerQuestionWithContents, getSavedBytesPerQuestion());
+    }
+}
@@ -0,0 +1,51 @@
+package qna.perf;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@Getter
+class OperationResult {
+    private final String name;
+    private final int operations;
+    private final int failures;
+    private final double throughput;
+    private final double p50Millis;
+    private final double p99Millis;
+    private final double statementsPerOperation;
+
+    OperationResult(String name, long[] latencyNanos, int failures, long elapsedNanos, long statements) {
+        long[] sorted = latencyNanos.clone();
+        Arrays.sort(sorted);
+        this.name = name;
+        this.operations = sorted.length;
+        this.failures = failures;
+        this.throughput = sorted.length * (double) TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos, 1);
+        this.p50Millis = percentileMillis(sorted, 0.50);
+        this.p99Millis = percentileMillis(sorted, 0.99);
+        this.statementsPerOperation = sorted.length == 0 ? 0 : (double) statements / sorted.length;
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    String toJson() {
+        return String.format(Locale.ROOT,
+                             "{\"name\":\"%s\",\"operations\":%d,\"failures\":%d,\"throughput\":%.2f," +
+                                     "\"p50Millis\":%.3f,\"p99Millis\":%.3f,\"statementsPerOperation\":%.2f}",
+                             name, operations, failures, throughput, p50Millis, p99Millis, statementsPerOperation);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%-18s ops=%d failures=%d throughput=%.1f/s p50=%.2fms p99=%.2fms sql/op=%.2f",
+                             name, operations, failures, throughput, p50Millis, p99Millis, statementsPerOperation);
+    }
+}
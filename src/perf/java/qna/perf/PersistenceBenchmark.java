@@ -0,0 +1,290 @@
+package qna.perf;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.domain.*;
+import qna.purge.AccountPurgeService;
+import qna.repository.AnswerRepository;
+import qna.repository.QuestionRepository;
+import qna.repository.UserRepository;
+import qna.service.AnswerCountReconciler;
+import qna.service.QnaService;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 파일 H2 위에서 전체 컨텍스트를 띄우고 데이터를 채운 뒤, 여러 스레드로 서비스 연산을 돌려
+ * 처리량, p50/p99 지연, 연산당 SQL 수(Hibernate statistics 의 prepared statement 수)를 잰다.
+ * <p>
+ * 연산 종류마다 따로 돌리므로 전역 statistics 의 증가분을 그 연산의 SQL 수로 볼 수 있다.
+ * 삭제 이력 저장이 연산 안에서 집계되도록 저널은 끄고 동기로 저장한다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.type=info",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=warn",
+        "qna.delete-history.journal.enabled=false",
+        "qna.purge.resume-on-startup=false"
+})
+class PersistenceBenchmark {
+    private static final int USERS = Integer.getInteger("perf.users", 100);
+    private static final int QUESTIONS = Integer.getInteger("perf.questions", 2_000);
+    private static final int ANSWERS_PER_QUESTION = Integer.getInteger("perf.answersPerQuestion", 10);
+    private static final int CONTENTS_LENGTH = Integer.getInteger("perf.contentsLength", 2_000);
+    private static final int PURGE_QUESTIONS = Integer.getInteger("perf.purgeQuestions", 1_000);
+    private static final int THREADS = Integer.getInteger("perf.threads", 8);
+    private static final int SEED_CHUNK_SIZE = 500;
+    private static final int MEMORY_SAMPLE_SIZE = 1_000;
+    private static final int WRITER_PAGE_SIZE = 100;
+    private static final Map<String, String> SOFT_DELETE_INDEXES = new LinkedHashMap<>();
+    private static final Path REPORT_DIR = Paths.get(System.getProperty("perf.reportDir", "build/reports/perf"));
+
+    static {
+        SOFT_DELETE_INDEXES.put("ix_answer_question_id_deleted", "answer (question_id, deleted)");
+        SOFT_DELETE_INDEXES.put("ix_answer_writer_id_deleted", "answer (writer_id, deleted)");
+        SOFT_DELETE_INDEXES.put("ix_question_writer_id_deleted", "question (writer_id, deleted)");
+    }
+
+    @Autowired
+    private QnaService qnaService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private AnswerCountReconciler answerCountReconciler;
+
+    @Autowired
+    private AccountPurgeService accountPurgeService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final Map<Long, User> writers = new HashMap<>();
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        String dbDir = System.getProperty("perf.dbDir", "build/perf");
+        registry.add("spring.datasource.url", () -> "jdbc:h2:file:" + Paths.get(dbDir, "qna").toAbsolutePath() +
+                ";DB_CLOSE_ON_EXIT=FALSE");
+    }
+
+    @Test
+    void run() throws Exception {
+        List<Long> questionIds = seed();
+        MemoryFootprint memoryFootprint = measureMemoryPerLoadedQuestion();
+
+        List<OperationResult> results = new ArrayList<>();
+        results.add(measure("findQuestionById", questionIds, qnaService::findQuestionById));
+        results.add(measure("findQuestionSnapshot", questionIds, qnaService::findQuestionSnapshot));
+        results.addAll(measureSoftDeleteIndexes(questionIds));
+        results.add(measure("deleteQuestion", questionIds,
+                            id -> qnaService.deleteQuestion(writers.get(id), id)));
+        PurgeResult purgeResult = measurePurge();
+
+        report(results, memoryFootprint, purgeResult);
+        assertWithinBudget(results);
+    }
+
+    private List<Long> seed() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(UserTest.newInstance());
+        }
+        transactionTemplate.executeWithoutResult(status -> userRepository.saveAll(users));
+
+        List<Long> questionIds = new ArrayList<>(QUESTIONS);
+        for (int from = 0; from < QUESTIONS; from += SEED_CHUNK_SIZE) {
+            int to = Math.min(from + SEED_CHUNK_SIZE, QUESTIONS);
+            questionIds.addAll(seedQuestions(users, from, to));
+        }
+        answerCountReconciler.reconcile();
+        return questionIds;
+    }
+
+    /**
+     * 질문 perf.purgeQuestions 개와 질문마다 답변 perf.answersPerQuestion 개를 쓴 사용자를 만들고,
+     * 계정 정리 한 번에 걸린 시간으로 초당 정리한 행 수를 잰다.
+     */
+    private PurgeResult measurePurge() {
+        User user = UserTest.newInstance();
+        transactionTemplate.executeWithoutResult(status -> userRepository.save(user));
+        List<User> users = Collections.singletonList(user);
+        for (int from = 0; from < PURGE_QUESTIONS; from += SEED_CHUNK_SIZE) {
+            seedQuestions(users, from, Math.min(from + SEED_CHUNK_SIZE, PURGE_QUESTIONS));
+        }
+
+        long startedAt = System.nanoTime();
+        PurgeJob job = accountPurgeService.purge(user.getId());
+        return new PurgeResult(job.getPurgedRows(), System.nanoTime() - startedAt);
+    }
+
+    private List<Long> seedQuestions(List<User> users, int from, int to) {
+        return transactionTemplate.execute(status -> {
+            List<Question> questions = new ArrayList<>(to - from);
+            List<Answer> answers = new ArrayList<>((to - from) * ANSWERS_PER_QUESTION);
+            for (int i = from; i < to; i++) {
+                User writer = users.get(i % users.size());
+                Question question = Question.builder()
+                        .title("question title " + i)
+                        .contents(contentsOf(i))
+                        .writer(writer)
+                        .build();
+                for (int j = 0; j < ANSWERS_PER_QUESTION; j++) {
+                    answers.add(AnswerTest.of(question, writer));
+                }
+                questions.add(question);
+            }
+            questionRepository.saveAll(questions);
+            answerRepository.saveAll(answers);
+            questions.forEach(question -> writers.put(question.getId(), question.getWriter()));
+            return questions.stream().map(Question::getId).collect(Collectors.toList());
+        });
+    }
+
+    private static String contentsOf(int index) {
+        StringBuilder contents = new StringBuilder(CONTENTS_LENGTH);
+        while (contents.length() < CONTENTS_LENGTH) {
+            contents.append("question contents ").append(index).append(' ');
+        }
+        return contents.substring(0, CONTENTS_LENGTH);
+    }
+
+    /**
+     * 질문 목록을 영속성 컨텍스트에 올렸을 때 질문 하나가 차지하는 힙을 contents 를 읽기 전과 읽은 뒤에 잰다.
+     * 두 값의 차이가 contents 지연 로딩으로 목록 조회에서 아끼는 크기다.
+     */
+    private MemoryFootprint measureMemoryPerLoadedQuestion() {
+        int sampleSize = Math.min(MEMORY_SAMPLE_SIZE, QUESTIONS);
+        return transactionTemplate.execute(status -> {
+            long before = usedHeapAfterGc();
+            List<Question> questions = questionRepository.findFirstPage(PageRequest.of(0, sampleSize));
+            long lazy = usedHeapAfterGc();
+            questions.forEach(Question::getContents);
+            long withContents = usedHeapAfterGc();
+            int count = Math.max(questions.size(), 1);
+            return new MemoryFootprint((lazy - before) / count, (withContents - before) / count);
+        });
+    }
+
+    /**
+     * soft-delete 조회 패턴을 복합 인덱스가 있을 때와 지운 뒤에 각각 잰다. 지운 뒤에도 외래 키 인덱스는 남으므로
+     * 두 결과의 차이가 복합 인덱스를 추가하기 전후의 차이다. 측정이 끝나면 인덱스를 다시 만든다.
+     */
+    private List<OperationResult> measureSoftDeleteIndexes(List<Long> questionIds) throws Exception {
+        List<Long> writerIds = questionIds.stream()
+                .map(id -> writers.get(id).getId())
+                .collect(Collectors.toList());
+
+        List<OperationResult> results = new ArrayList<>(measureSoftDeleteQueries("indexed", questionIds, writerIds));
+        SOFT_DELETE_INDEXES.keySet().forEach(index -> jdbcTemplate.execute("drop index " + index));
+        try {
+            results.addAll(measureSoftDeleteQueries("unindexed", questionIds, writerIds));
+        } finally {
+            SOFT_DELETE_INDEXES.forEach((index, columns) ->
+                                                jdbcTemplate.execute("create index " + index + " on " + columns));
+        }
+        return results;
+    }
+
+    private List<OperationResult> measureSoftDeleteQueries(String suffix, List<Long> questionIds, List<Long> writerIds)
+            throws Exception {
+        PageRequest firstPage = PageRequest.of(0, WRITER_PAGE_SIZE);
+        List<OperationResult> results = new ArrayList<>();
+        results.add(measure("answersOfQuestion." + suffix, questionIds,
+                            answerRepository::findIdsByQuestionIdAndDeletedFalse));
+        results.add(measure("questionsOfWriter." + suffix, writerIds,
+                            id -> questionRepository.findIdsByWriterIdAfter(id, 0L, firstPage)));
+        results.add(measure("answersOfWriter." + suffix, writerIds,
+                            id -> answerRepository.findIdsByWriterIdAfter(id, 0L, firstPage)));
+        return results;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private OperationResult measure(String name, List<Long> ids, Consumer<Long> operation) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return LoadRunner.run(name, THREADS, ids, operation, statistics);
+    }
+
+    private static void report(List<OperationResult> results, MemoryFootprint memoryFootprint,
+                               PurgeResult purgeResult) throws IOException {
+        results.forEach(System.out::println);
+        System.out.println(memoryFootprint);
+        System.out.println(purgeResult);
+
+        String json = String.format(Locale.ROOT,
+                                    "{\"users\":%d,\"questions\":%d,\"answersPerQuestion\":%d,\"threads\":%d," +
+                                            "\"contentsLength\":%d,\"memory\":%s,\"purge\":%s,\"operations\":[%s]}%n",
+                                    USERS, QUESTIONS, ANSWERS_PER_QUESTION, THREADS, CONTENTS_LENGTH,
+                                    memoryFootprint.toJson(), purgeResult.toJson(),
+                                    results.stream().map(OperationResult::toJson).collect(Collectors.joining(",")));
+        Files.createDirectories(REPORT_DIR);
+        Files.write(REPORT_DIR.resolve("results.json"), json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * perf.budget.&lt;연산 이름&gt;.statements, perf.budget.&lt;연산 이름&gt;.p99Millis 로 지정한 예산을 넘으면 실패한다.
+     */
+    private static void assertWithinBudget(List<OperationResult> results) {
+        List<String> violations = new ArrayList<>();
+        for (OperationResult result : results) {
+            if (result.getFailures() > 0) {
+                violations.add(result.getName() + " failures " + result.getFailures());
+            }
+            checkBudget(violations, result.getName(), "statements", result.getStatementsPerOperation());
+            checkBudget(violations, result.getName(), "p99Millis", result.getP99Millis());
+        }
+        assertThat(violations).as("perf budget").isEmpty();
+    }
+
+    private static void checkBudget(List<String> violations, String operation, String metric, double actual) {
+        String budget = System.getProperty("perf.budget." + operation + "." + metric);
+        if (budget != null && actual > Double.parseDouble(budget)) {
+            violations.add(String.format(Locale.ROOT, "%s %s %.2f > %s", operation, metric, actual, budget));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package qna.perf;
+
+import lombok.Getter;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 사용자의 질문과 답변을 정리한 계정 정리 작업의 처리량.
+ */
+@Getter
+class PurgeResult {
+    private final long rows;
+    private final double elapsedMillis;
+    private final double rowsPerSecond;
+
+    PurgeResult(long rows, long elapsedNanos) {
+        this.rows = rows;
+        this.elapsedMillis = elapsedNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        this.rowsPerSecond = rows * (double) TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos, 1);
+    }
+
+    String toJson() {
+        return String.format(Locale.ROOT, "{\"rows\":%d,\"elapsedMillis\":%.1f,\"rowsPerSecond\":%.1f}",
+                             rows, elapsedMillis, rowsPerSecond);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "purge rows=%d elapsed=%.1fms throughput=%.1f rows/s",
+                             rows, elapsedMillis, rowsPerSecond);
+    }
+}
@@ -3,7 +3,9 @@ package qna;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+        "qna.delete-history.journal.enabled=false"
+})
 class ApplicationTest {
     @Test
     void contextLoads() {
@@ -0,0 +1,125 @@
+package qna.archive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import qna.domain.*;
+import qna.repository.AnswerRepository;
+import qna.repository.QuestionRepository;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@Sql("/truncate.sql")
+@DataJpaTest
+@Import({SoftDeleteArchiver.class, ArchivedContentService.class})
+@EnableConfigurationProperties(ArchiveProperties.class)
+class SoftDeleteArchiverTest {
+    private static final LocalDateTime NOW = LocalDateTime.now();
+    private static final LocalDateTime LONG_AGO = NOW.minusDays(40);
+
+    @Autowired
+    private SoftDeleteArchiver archiver;
+
+    @Autowired
+    private ArchivedContentService archivedContentService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("삭제된 지 오래된 질문과 답변을 같은 id 로 보관 테이블에 옮긴다.")
+    void archive() {
+        // given
+        User writer = UserTest.newInstance();
+        Question deletedQuestion = QuestionTest.from(writer);
+        Answer answerOfDeletedQuestion = answerRepository.save(AnswerTest.of(deletedQuestion, writer));
+        Question liveQuestion = QuestionTest.from(writer);
+        Answer deletedAnswer = answerRepository.save(AnswerTest.of(liveQuestion, writer));
+        Answer liveAnswer = answerRepository.save(AnswerTest.of(liveQuestion, writer));
+        Question recentlyDeletedQuestion = questionRepository.save(QuestionTest.from(writer));
+        em.flush();
+
+        answerRepository.softDeleteAllByIdIn(Collections.singletonList(answerOfDeletedQuestion.getId()), LONG_AGO);
+        questionRepository.softDeleteById(deletedQuestion.getId(), deletedQuestion.getVersion(), LONG_AGO);
+        answerRepository.softDeleteAllByIdIn(Collections.singletonList(deletedAnswer.getId()), LONG_AGO);
+        questionRepository.softDeleteById(recentlyDeletedQuestion.getId(), recentlyDeletedQuestion.getVersion(), NOW);
+
+        // when
+        int archived = archiver.archive(NOW.minusDays(30));
+        em.clear();
+
+        // then
+        assertAll(
+                () -> assertThat(archived).isEqualTo(3),
+                () -> assertThat(questionRepository.findById(deletedQuestion.getId())).isEmpty(),
+                () -> assertThat(archivedContentService.findQuestion(deletedQuestion.getId()).getTitle())
+                        .isEqualTo(deletedQuestion.getTitle()),
+                () -> assertThat(archivedContentService.findAnswers(deletedQuestion.getId()))
+                        .extracting(AnswerArchive::getId)
+                        .containsExactly(answerOfDeletedQuestion.getId()),
+                () -> assertThat(answerRepository.findById(deletedAnswer.getId())).isEmpty(),
+                () -> assertThat(answerRepository.findById(liveAnswer.getId())).isPresent(),
+                () -> assertThat(questionRepository.findById(recentlyDeletedQuestion.getId())).isPresent()
+        );
+    }
+
+    @Test
+    @DisplayName("살아 있는 답변이 있는 질문은 삭제되었어도 옮기지 않는다.")
+    void archiveSkipsQuestionWithLiveAnswer() {
+        // given
+        User writer = UserTest.newInstance();
+        Question question = QuestionTest.from(writer);
+        Answer liveAnswer = answerRepository.save(AnswerTest.of(question, UserTest.newInstance()));
+        em.flush();
+        questionRepository.softDeleteById(question.getId(), question.getVersion(), LONG_AGO);
+
+        // when
+        int archived = archiver.archive(NOW.minusDays(30));
+
+        // then
+        assertAll(
+                () -> assertThat(archived).isZero(),
+                () -> assertThat(questionRepository.existsById(question.getId())).isTrue(),
+                () -> assertThat(answerRepository.existsById(liveAnswer.getId())).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("삭제 이력의 contentId 로 아직 옮겨지지 않았거나 이미 옮겨진 내용을 찾는다.")
+    void findDeletedContents() {
+        // given
+        User writer = UserTest.newInstance();
+        Question archivedQuestion = questionRepository.save(QuestionTest.from(writer));
+        Question deletedQuestion = questionRepository.save(QuestionTest.from(writer));
+        em.flush();
+        questionRepository.softDeleteById(archivedQuestion.getId(), archivedQuestion.getVersion(), LONG_AGO);
+        questionRepository.softDeleteById(deletedQuestion.getId(), deletedQuestion.getVersion(), NOW);
+        archiver.archive(NOW.minusDays(30));
+        em.clear();
+
+        // when, then
+        assertAll(
+                () -> assertThat(archivedContentService.findDeletedContents(ContentType.QUESTION, archivedQuestion.getId()))
+                        .contains(archivedQuestion.getContents()),
+                () -> assertThat(archivedContentService.findDeletedContents(ContentType.QUESTION, deletedQuestion.getId()))
+                        .contains(deletedQuestion.getContents()),
+                () -> assertThat(archivedContentService.findDeletedContents(ContentType.ANSWER, Long.MAX_VALUE))
+                        .isEmpty()
+        );
+    }
+}
@@ -0,0 +1,73 @@
+package qna.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.domain.Question;
+import qna.domain.QuestionTest;
+import qna.domain.User;
+import qna.domain.UserTest;
+import qna.repository.QuestionRepository;
+import qna.repository.UserRepository;
+import qna.service.QnaService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@Sql("/truncate.sql")
+@SpringBootTest(properties = {
+        "qna.delete-history.journal.enabled=false"
+})
+class QuestionCacheInvalidationTest {
+    @Autowired
+    private QnaService qnaService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("질문, 답변, 작성자가 바뀐 트랜잭션이 커밋되면 다음 스냅샷 조회에 변경이 반영된다.")
+    void invalidateOnCommit() {
+        // given
+        User writer = UserTest.newInstance();
+        Question question = transactionTemplate.execute(status -> {
+            userRepository.save(writer);
+            return questionRepository.save(QuestionTest.from(writer));
+        });
+        QuestionSnapshot loaded = qnaService.findQuestionSnapshot(question.getId());
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> questionRepository.findById(question.getId())
+                .orElseThrow(IllegalStateException::new)
+                .update("changed title", "changed contents"));
+        QuestionSnapshot afterUpdate = qnaService.findQuestionSnapshot(question.getId());
+
+        qnaService.addAnswer(writer, question.getId(), "answer contents");
+        QuestionSnapshot afterAnswer = qnaService.findQuestionSnapshot(question.getId());
+
+        transactionTemplate.executeWithoutResult(status -> userRepository.findById(writer.getId())
+                .orElseThrow(IllegalStateException::new)
+                .setName("changed"));
+        QuestionSnapshot afterWriterUpdate = qnaService.findQuestionSnapshot(question.getId());
+
+        // then
+        assertAll(
+                () -> assertThat(loaded.getTitle()).isEqualTo(question.getTitle()),
+                () -> assertThat(afterUpdate.getTitle()).isEqualTo("changed title"),
+                () -> assertThat(afterUpdate.getContents()).isEqualTo("changed contents"),
+                () -> assertThat(afterUpdate.getAnswers()).isEmpty(),
+                () -> assertThat(afterAnswer.getAnswers()).extracting(AnswerSnapshot::getContents)
+                        .containsExactly("answer contents"),
+                () -> assertThat(afterWriterUpdate.getWriter().getName()).isEqualTo("changed")
+        );
+    }
+}
@@ -0,0 +1,102 @@
+package qna.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import qna.event.QuestionChangedEvent;
+import qna.exception.NotFoundException;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QuestionCacheTest {
+    @Mock
+    private QuestionSnapshotLoader loader;
+
+    private QuestionCache questionCache;
+
+    @BeforeEach
+    void setUp() {
+        questionCache = new QuestionCache(new QuestionCacheProperties(), loader);
+    }
+
+    private static QuestionSnapshot snapshot(Long id) {
+        return new QuestionSnapshot(id, "title" + id, "contents" + id, 1L, "javajigi", "name",
+                                    LocalDateTime.now(), null);
+    }
+
+    @Test
+    @DisplayName("같은 질문을 다시 조회하면 캐시에서 반환하고 적중 횟수를 기록한다.")
+    void get() {
+        // given
+        when(loader.load(1L)).thenReturn(snapshot(1L));
+
+        // when
+        QuestionSnapshot first = questionCache.get(1L);
+        QuestionSnapshot second = questionCache.get(1L);
+
+        // then
+        assertAll(
+                () -> assertThat(second).isSameAs(first),
+                () -> verify(loader, times(1)).load(1L),
+                () -> assertThat(questionCache.stats().hitCount()).isEqualTo(1),
+                () -> assertThat(questionCache.stats().missCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("질문이 변경되면 캐시를 무효화하고 다음 조회 때 다시 읽는다.")
+    void onQuestionChanged() {
+        // given
+        when(loader.load(1L)).thenReturn(snapshot(1L));
+        questionCache.get(1L);
+
+        // when
+        questionCache.onQuestionChanged(QuestionChangedEvent.of(1L));
+        questionCache.get(1L);
+
+        // then
+        verify(loader, times(2)).load(1L);
+    }
+
+    @Test
+    @DisplayName("전체 변경 이벤트를 받으면 모든 질문을 무효화한다.")
+    void onAllQuestionsChanged() {
+        // given
+        when(loader.load(1L)).thenReturn(snapshot(1L));
+        when(loader.load(2L)).thenReturn(snapshot(2L));
+        questionCache.get(1L);
+        questionCache.get(2L);
+
+        // when
+        questionCache.onQuestionChanged(QuestionChangedEvent.all());
+
+        questionCache.get(1L);
+        questionCache.get(2L);
+
+        // then
+        verify(loader, times(2)).load(1L);
+        verify(loader, times(2)).load(2L);
+    }
+
+    @Test
+    @DisplayName("없는 질문은 캐시하지 않고 예외가 발생한다.")
+    void thrownByNotFound() {
+        // given
+        when(loader.load(1L)).thenThrow(new NotFoundException());
+
+        // then
+        assertThatThrownBy(() -> questionCache.get(1L)).isInstanceOf(NotFoundException.class);
+        assertThat(questionCache.stats().missCount()).isEqualTo(1);
+    }
+}
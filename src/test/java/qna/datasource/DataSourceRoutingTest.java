@@ -0,0 +1,217 @@
+package qna.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.domain.Question;
+import qna.domain.QuestionTest;
+import qna.domain.User;
+import qna.domain.UserTest;
+import qna.exception.NotFoundException;
+import qna.repository.QuestionRepository;
+import qna.repository.UserRepository;
+import qna.service.QnaService;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@Sql("/truncate.sql")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "qna.datasource.routing.enabled=true",
+        "qna.datasource.routing.replicas[0].url=" + DataSourceRoutingTest.REPLICA1_URL,
+        "qna.datasource.routing.replicas[0].username=sa",
+        "qna.datasource.routing.replicas[1].url=" + DataSourceRoutingTest.REPLICA2_URL,
+        "qna.datasource.routing.replicas[1].username=sa",
+        "qna.datasource.routing.replicas[2].url=jdbc:h2:tcp://localhost:1/unreachable",
+        "qna.datasource.routing.replicas[2].connection-timeout=250ms",
+        "qna.datasource.routing.health-check-interval=1h",
+        "qna.search.reindex-on-startup=false",
+        "qna.search.refresh-interval=1h",
+        "qna.purge.resume-on-startup=false",
+        "qna.delete-history.journal.enabled=false"
+})
+class DataSourceRoutingTest {
+    static final String REPLICA1_URL = "jdbc:h2:mem:routing_replica1;DB_CLOSE_DELAY=-1";
+    static final String REPLICA2_URL = "jdbc:h2:mem:routing_replica2;DB_CLOSE_DELAY=-1";
+    private static final String PRIMARY = "ROUTING_PRIMARY";
+    private static final List<String> REPLICAS = Arrays.asList("ROUTING_REPLICA1", "ROUTING_REPLICA2");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaPool replicaPool;
+
+    @Autowired
+    private ReadAfterWriteTracker readAfterWriteTracker;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private QnaService qnaService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        syncReplicas();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadAfterWriteTracker.unbindCaller();
+        replicaPool.checkHealth();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 건강한 복제본에 돌아가며 보내고, 쓰기 트랜잭션은 주 DB 로 보낸다.")
+    void route() {
+        // given
+        ReadAfterWriteTracker.bindCaller("reader");
+
+        // when
+        String firstRead = databaseOf(true);
+        String secondRead = databaseOf(true);
+        String write = databaseOf(false);
+
+        // then
+        assertAll(
+                () -> assertThat(REPLICAS).contains(firstRead, secondRead),
+                () -> assertThat(firstRead).isNotEqualTo(secondRead),
+                () -> assertThat(write).isEqualTo(PRIMARY)
+        );
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 호출자의 읽기는 잠시 주 DB 로 보내고, 다른 호출자의 읽기는 복제본으로 보낸다.")
+    void readAfterWrite() {
+        // given
+        ReadAfterWriteTracker.bindCaller("writer");
+        databaseOf(false);
+
+        // when
+        String writerRead = databaseOf(true);
+        ReadAfterWriteTracker.bindCaller("other");
+        String otherRead = databaseOf(true);
+
+        // then
+        assertAll(
+                () -> assertThat(writerRead).isEqualTo(PRIMARY),
+                () -> assertThat(REPLICAS).contains(otherRead)
+        );
+    }
+
+    @Test
+    @DisplayName("로그인 사용자를 받는 서비스 메서드는 그 사용자를 호출자로 정하고, 끝나면 되돌린다.")
+    void bindLoginUser() {
+        // given
+        User writer = new TransactionTemplate(transactionManager).execute(status ->
+                userRepository.save(UserTest.newInstance()));
+        User other = new TransactionTemplate(transactionManager).execute(status ->
+                userRepository.save(UserTest.newInstance()));
+        Question question = new TransactionTemplate(transactionManager).execute(status ->
+                questionRepository.save(QuestionTest.from(userRepository.getById(other.getId()))));
+
+        // when
+        qnaService.addAnswer(writer, question.getId(), "answer contents");
+
+        // then
+        assertAll(
+                () -> assertThat(readAfterWriteTracker.hasRecentWrite(ReadAfterWriteTracker.callerOf(writer))).isTrue(),
+                () -> assertThat(readAfterWriteTracker.hasRecentWrite(ReadAfterWriteTracker.callerOf(other))).isFalse(),
+                () -> assertThat(ReadAfterWriteTracker.boundCaller()).isNull()
+        );
+    }
+
+    @Test
+    @DisplayName("건강한 복제본이 없으면 읽기 전용 트랜잭션도 주 DB 로 보낸다.")
+    void noHealthyReplica() {
+        // given
+        ReadAfterWriteTracker.bindCaller("reader");
+        replicaPool.markDown(0);
+        replicaPool.markDown(1);
+
+        // when, then
+        assertThat(databaseOf(true)).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    @DisplayName("복제본은 동기화되기 전까지 주 DB 에 쓴 질문을 보지 못한다.")
+    void replicaLag() throws SQLException {
+        // given
+        ReadAfterWriteTracker.bindCaller("writer");
+        Question question = new TransactionTemplate(transactionManager).execute(status -> questionRepository.save(
+                QuestionTest.from(userRepository.save(UserTest.newInstance()))));
+        ReadAfterWriteTracker.bindCaller("other");
+
+        // when, then
+        assertThatThrownBy(() -> qnaService.findQuestionById(question.getId()))
+                .isInstanceOf(NotFoundException.class);
+        syncReplicas();
+        assertThat(qnaService.findQuestionById(question.getId()).getTitle()).isEqualTo(question.getTitle());
+    }
+
+    @Test
+    @DisplayName("주 DB 와 복제본 커넥션 풀의 hikaricp 지표를 풀 이름별로 내보낸다.")
+    void poolMetrics() {
+        // given
+        databaseOf(false);
+
+        // when, then
+        assertAll(
+                () -> assertThat(meterRegistry.find("hikaricp.connections.active").tag("pool", "primary").gauge())
+                        .isNotNull(),
+                () -> assertThat(meterRegistry.find("hikaricp.connections.active").tag("pool", "replica-0").gauge())
+                        .isNotNull(),
+                () -> assertThat(meterRegistry.find("hikaricp.connections.pending").tag("pool", "replica-1").gauge())
+                        .isNotNull()
+        );
+    }
+
+    private String databaseOf(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("select database()", String.class));
+    }
+
+    /**
+     * 주 DB 의 스키마와 데이터를 두 복제본에 그대로 옮긴다.
+     */
+    private void syncReplicas() throws SQLException {
+        List<String> script = jdbcTemplate.queryForList("script", String.class);
+        for (String url : Arrays.asList(REPLICA1_URL, REPLICA2_URL)) {
+            try (Connection connection = DriverManager.getConnection(url, "sa", "");
+                 Statement statement = connection.createStatement()) {
+                statement.execute("drop all objects");
+                for (String sql : script) {
+                    statement.execute(sql);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package qna.export;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import qna.domain.ContentType;
+import qna.domain.DeleteHistory;
+import qna.domain.User;
+import qna.domain.UserTest;
+import qna.history.DeleteHistoryPartitionProperties;
+import qna.history.DeleteHistoryPartitions;
+import qna.history.DeleteHistoryStore;
+import qna.repository.DeleteHistoryRepository;
+import qna.repository.UserRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@Sql("/truncate.sql")
+@DataJpaTest
+@Import({DeleteHistoryExporter.class, DeleteHistoryStore.class, DeleteHistoryPartitions.class})
+@EnableConfigurationProperties(DeleteHistoryPartitionProperties.class)
+class DeleteHistoryExporterTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2022, 5, 1, 0, 0);
+
+    @Autowired
+    private DeleteHistoryExporter deleteHistoryExporter;
+
+    @Autowired
+    private DeleteHistoryRepository deleteHistoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User writer;
+    private DeleteHistory question;
+    private DeleteHistory answer;
+    private DeleteHistory oldAnswer;
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(UserTest.newInstance());
+        question = deleteHistoryRepository.save(new DeleteHistory(ContentType.QUESTION, 1L, writer, BASE));
+        answer = deleteHistoryRepository.save(new DeleteHistory(ContentType.ANSWER, 2L, writer, BASE.plusDays(1)));
+        oldAnswer = deleteHistoryRepository.save(new DeleteHistory(ContentType.ANSWER, 3L, writer, BASE.minusDays(1)));
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 삭제 이력을 한 줄에 하나씩 NDJSON 으로 내보낸다.")
+    void exportNdjson() throws IOException {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = deleteHistoryExporter.export(ExportFormat.NDJSON, ContentType.ANSWER, BASE, null, out);
+
+        // then
+        assertAll(
+                () -> assertThat(count).isEqualTo(1),
+                () -> assertThat(out.toString(StandardCharsets.UTF_8.name())).isEqualTo(
+                        "{\"id\":" + answer.getId() + ",\"contentType\":\"ANSWER\",\"contentId\":2," +
+                                "\"deletedById\":" + writer.getId() + ",\"createDate\":\"2022-05-02T00:00\"}\n")
+        );
+    }
+
+    @Test
+    @DisplayName("조건이 없으면 전체 삭제 이력을 id 순서대로 CSV 로 내보낸다.")
+    void exportCsv() throws IOException {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = deleteHistoryExporter.export(ExportFormat.CSV, null, null, null, out);
+
+        // then
+        assertAll(
+                () -> assertThat(count).isEqualTo(3),
+                () -> assertThat(out.toString(StandardCharsets.UTF_8.name()).split("\n")).containsExactly(
+                        "id,contentType,contentId,deletedById,createDate",
+                        question.getId() + ",QUESTION,1," + writer.getId() + ",2022-05-01T00:00",
+                        answer.getId() + ",ANSWER,2," + writer.getId() + ",2022-05-02T00:00",
+                        oldAnswer.getId() + ",ANSWER,3," + writer.getId() + ",2022-04-30T00:00")
+        );
+    }
+
+    @Test
+    @DisplayName("조회 시작일이 종료일보다 늦으면 내보낼 수 없다.")
+    void invalidDateRange() {
+        assertThatThrownBy(() -> deleteHistoryExporter.export(ExportFormat.CSV, null, BASE.plusDays(1), BASE,
+                                                              new ByteArrayOutputStream()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(DeleteHistoryExporter.ERROR_MESSAGE_INVALID_DATE_RANGE);
+    }
+}
@@ -0,0 +1,122 @@
+package qna.history;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import qna.domain.ContentType;
+import qna.domain.DeleteHistory;
+import qna.domain.User;
+import qna.domain.UserTest;
+import qna.repository.DeleteHistoryRepository;
+import qna.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@Sql("/truncate.sql")
+@DataJpaTest
+@Import(DeleteHistoryPartitions.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DeleteHistoryPartitionsTest {
+    private static final LocalDateTime APRIL = LocalDateTime.of(2022, 4, 30, 23, 59);
+    private static final LocalDateTime MAY = LocalDateTime.of(2022, 5, 1, 0, 0);
+
+    @Autowired
+    private DeleteHistoryPartitions partitions;
+
+    @Autowired
+    private DeleteHistoryRepository deleteHistoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(UserTest.newInstance());
+    }
+
+    @AfterEach
+    void tearDown() {
+        partitions.findBuckets().forEach(partitions::dropBucket);
+    }
+
+    @Test
+    @DisplayName("삭제 이력을 createDate 가 속한 월 테이블에 나누어 저장한다.")
+    void saveAll() {
+        // when
+        partitions.saveAll(Arrays.asList(
+                new DeleteHistory(ContentType.QUESTION, 1L, writer, APRIL),
+                new DeleteHistory(ContentType.ANSWER, 2L, writer, MAY),
+                new DeleteHistory(ContentType.ANSWER, 3L, writer, MAY.plusDays(1))
+        ));
+
+        // then
+        List<DeleteHistoryRecord> records = new ArrayList<>();
+        long count = partitions.forEach(null, null, null, records::add);
+        assertAll(
+                () -> assertThat(partitions.findBuckets()).containsExactly(YearMonth.of(2022, 4), YearMonth.of(2022, 5)),
+                () -> assertThat(count).isEqualTo(3),
+                () -> assertThat(records).extracting(DeleteHistoryRecord::getContentId).containsExactly(1L, 2L, 3L),
+                () -> assertThat(records).extracting(DeleteHistoryRecord::getDeletedById).containsOnly(writer.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("기존 테이블과 조회 구간에 걸치는 월 테이블만 읽는다.")
+    void forEach() {
+        // given
+        DeleteHistory legacy = deleteHistoryRepository.save(new DeleteHistory(ContentType.ANSWER, 1L, writer, MAY));
+        partitions.saveAll(Arrays.asList(
+                new DeleteHistory(ContentType.ANSWER, 2L, writer, APRIL),
+                new DeleteHistory(ContentType.ANSWER, 3L, writer, MAY),
+                new DeleteHistory(ContentType.QUESTION, 4L, writer, MAY)
+        ));
+
+        // when
+        List<DeleteHistoryRecord> records = new ArrayList<>();
+        partitions.forEach(ContentType.ANSWER, MAY, MAY.plusMonths(1), records::add);
+
+        // then
+        assertAll(
+                () -> assertThat(records).extracting(DeleteHistoryRecord::getContentId).containsExactly(1L, 3L),
+                () -> assertThat(records.get(1).getId()).isNotEqualTo(legacy.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("이번 달과 다음 달 테이블을 미리 만들고 보존 기간이 지난 월 테이블을 삭제한다.")
+    void maintain() {
+        // given
+        DeleteHistoryPartitionProperties properties = new DeleteHistoryPartitionProperties();
+        properties.setRetentionMonths(24);
+        DeleteHistoryRetentionJob retentionJob = new DeleteHistoryRetentionJob(properties, partitions);
+        partitions.createBucket(YearMonth.of(2020, 4));
+        partitions.createBucket(YearMonth.of(2020, 5));
+
+        // when
+        List<YearMonth> expired = retentionJob.maintain(YearMonth.of(2022, 5));
+
+        // then
+        assertAll(
+                () -> assertThat(expired).containsExactly(YearMonth.of(2020, 4)),
+                () -> assertThat(partitions.findBuckets()).containsExactly(YearMonth.of(2020, 5),
+                                                                           YearMonth.of(2022, 5),
+                                                                           YearMonth.of(2022, 6))
+        );
+    }
+}
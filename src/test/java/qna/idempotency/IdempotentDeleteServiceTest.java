@@ -0,0 +1,111 @@
+package qna.idempotency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import qna.domain.UserTest;
+import qna.exception.CannotDeleteException;
+import qna.service.QnaService;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotentDeleteServiceTest {
+    private static final Long QUESTION_ID = 1L;
+    private static final String IDEMPOTENCY_KEY = "delete-1";
+    private static final String OTHER_IDEMPOTENCY_KEY = "delete-2";
+
+    @Mock
+    private QnaService qnaService;
+
+    private IdempotentDeleteService idempotentDeleteService;
+
+    @BeforeEach
+    void setUp() {
+        idempotentDeleteService = new IdempotentDeleteService(qnaService, new IdempotencyProperties());
+    }
+
+    @Test
+    void delete_같은_멱등_키로_다시_요청() {
+        idempotentDeleteService.deleteQuestion(UserTest.JAVAJIGI, QUESTION_ID, IDEMPOTENCY_KEY);
+        idempotentDeleteService.deleteQuestion(UserTest.JAVAJIGI, QUESTION_ID, IDEMPOTENCY_KEY);
+
+        verify(qnaService, times(1)).deleteQuestion(UserTest.JAVAJIGI, QUESTION_ID);
+    }
+
+    @Test
+    void delete_함께_실행된_다른_멱등_키로_다시_요청() throws InterruptedException {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            entered.countDown();
+            release.await();
+            return null;
+        }).when(qnaService).deleteQuestion(UserTest.JAVAJIGI, QUESTION_ID);
+        Thread leader = new Thread(() -> idempotentDeleteService.deleteQuestion(UserTest.JAVAJIGI, QUESTION_ID,
+                                                                                 IDEMPOTENCY_KEY));
+        Thread follower = new Thread(() -> idempotentDeleteService.deleteQuestion(UserTest.JAVAJIGI, QUESTION_ID,
+                                                                                   OTHER_IDEMPOTENCY_KEY));
+
+        leader.start();
+        entered.await();
+        follower.start();
+        while (follower.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+        leader.join();
+        follower.join();
+        idempotentDeleteService.deleteQuestion(UserTest.JAVAJIGI, QUESTION_ID, IDEMPOTENCY_KEY);
+        idempotentDeleteService.deleteQuestion(UserTest.JAVAJIGI, QUESTION_ID, OTHER_IDEMPOTENCY_KEY);
+
+        verify(qnaService, times(1)).deleteQuestion(UserTest.JAVAJIGI, QUESTION_ID);
+    }
+
+    @Test
+    void delete_멱등_키_없이_다시_요청() {
+        idempotentDeleteService.deleteQuestion(UserTest.JAVAJIGI, QUESTION_ID);
+        idempotentDeleteService.deleteQuestion(UserTest.JAVAJIGI, QUESTION_ID);
+
+        verify(qnaService, times(2)).deleteQuestion(UserTest.JAVAJIGI, QUESTION_ID);
+    }
+
+    @Test
+    void delete_다른_사용자의_같은_멱등_키() {
+        idempotentDeleteService.deleteQuestion(UserTest.JAVAJIGI, QUESTION_ID, IDEMPOTENCY_KEY);
+        idempotentDeleteService.deleteQuestion(UserTest.SANJIGI, QUESTION_ID, IDEMPOTENCY_KEY);
+
+        verify(qnaService).deleteQuestion(UserTest.JAVAJIGI, QUESTION_ID);
+        verify(qnaService).deleteQuestion(UserTest.SANJIGI, QUESTION_ID);
+    }
+
+    @Test
+    void delete_실패한_요청은_다시_실행() {
+        doThrow(new CannotDeleteException("질문을 삭제할 권한이 없습니다."))
+                .doNothing()
+                .when(qnaService).deleteQuestion(UserTest.JAVAJIGI, QUESTION_ID);
+
+        assertThatThrownBy(() -> idempotentDeleteService.deleteQuestion(UserTest.JAVAJIGI, QUESTION_ID, IDEMPOTENCY_KEY))
+                .isInstanceOf(CannotDeleteException.class);
+        idempotentDeleteService.deleteQuestion(UserTest.JAVAJIGI, QUESTION_ID, IDEMPOTENCY_KEY);
+        idempotentDeleteService.deleteQuestion(UserTest.JAVAJIGI, QUESTION_ID, IDEMPOTENCY_KEY);
+
+        verify(qnaService, times(2)).deleteQuestion(UserTest.JAVAJIGI, QUESTION_ID);
+    }
+
+    @Test
+    void delete_같은_멱등_키로_다른_질문() {
+        idempotentDeleteService.deleteQuestion(UserTest.JAVAJIGI, QUESTION_ID, IDEMPOTENCY_KEY);
+
+        assertThatThrownBy(() -> idempotentDeleteService.deleteQuestion(UserTest.JAVAJIGI, 2L, IDEMPOTENCY_KEY))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,76 @@
+package qna.idempotency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class InFlightRequestsTest {
+    private final InFlightRequests<Long, String> inFlightRequests = new InFlightRequests<>();
+
+    @Test
+    @DisplayName("실행 중인 키로 들어온 요청은 다시 실행하지 않고 같은 결과를 받는다.")
+    void coalesce() throws Exception {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<String> leaderResult = new AtomicReference<>();
+        AtomicReference<String> followerResult = new AtomicReference<>();
+        Thread leader = new Thread(() -> leaderResult.set(inFlightRequests.execute(1L, () -> {
+            executions.incrementAndGet();
+            entered.countDown();
+            await(release);
+            return "deleted";
+        })));
+        Thread follower = new Thread(() -> followerResult.set(inFlightRequests.execute(1L, () -> {
+            executions.incrementAndGet();
+            return "again";
+        })));
+
+        // when
+        leader.start();
+        entered.await();
+        follower.start();
+        while (follower.getState() != Thread.State.WAITING) {
+            Thread.yield();
+        }
+        release.countDown();
+        leader.join();
+        follower.join();
+
+        // then
+        assertAll(
+                () -> assertThat(executions.get()).isEqualTo(1),
+                () -> assertThat(leaderResult.get()).isEqualTo("deleted"),
+                () -> assertThat(followerResult.get()).isEqualTo("deleted"),
+                () -> assertThat(inFlightRequests.size()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("실행이 실패하면 예외를 그대로 던지고 키를 지워 다음 요청은 다시 실행한다.")
+    void failure() {
+        // when, then
+        assertAll(
+                () -> assertThatThrownBy(() -> inFlightRequests.execute(1L, () -> {
+                    throw new IllegalStateException("fail");
+                })).isInstanceOf(IllegalStateException.class),
+                () -> assertThat(inFlightRequests.execute(1L, () -> "retried")).isEqualTo("retried")
+        );
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package qna.journal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.domain.ContentType;
+import qna.domain.DeleteHistory;
+import qna.domain.Question;
+import qna.domain.User;
+import qna.domain.UserTest;
+import qna.history.DeleteHistoryPartitionProperties;
+import qna.history.DeleteHistoryPartitions;
+import qna.history.DeleteHistoryStore;
+import qna.repository.DeleteHistoryRepository;
+import qna.repository.QuestionRepository;
+import qna.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@Sql("/truncate.sql")
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({DeleteHistoryBatchWriter.class, DeleteHistoryStore.class, DeleteHistoryPartitions.class})
+@EnableConfigurationProperties(DeleteHistoryPartitionProperties.class)
+class DeleteHistoryBatchWriterTest {
+    @Autowired
+    private DeleteHistoryBatchWriter deleteHistoryBatchWriter;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private DeleteHistoryRepository deleteHistoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Question saveQuestion(User writer, boolean deleted) {
+        return questionRepository.save(Question.builder()
+                                               .title("title")
+                                               .contents("contents")
+                                               .writer(writer)
+                                               .deleted(deleted)
+                                               .build());
+    }
+
+    private static JournalEntry entryOf(Long contentId, User deletedBy) {
+        return JournalEntry.from(new DeleteHistory(ContentType.QUESTION, contentId, deletedBy, LocalDateTime.now()));
+    }
+
+    @Test
+    @DisplayName("재생할 때 삭제된 글이면서 작성자가 있고 아직 이력이 없는 항목만 저장한다.")
+    void replay() {
+        // given
+        User unknownUser = new User(Long.MAX_VALUE, "unknown", "password", "name", "unknown@slipp.net");
+        User writer = UserTest.newInstance();
+        Question[] questions = transactionTemplate.execute(status -> {
+            userRepository.save(writer);
+            Question recorded = saveQuestion(writer, true);
+            deleteHistoryRepository.save(new DeleteHistory(ContentType.QUESTION, recorded.getId(), writer,
+                                                           LocalDateTime.now()));
+            return new Question[]{
+                    saveQuestion(writer, true),
+                    recorded,
+                    saveQuestion(writer, false),
+                    saveQuestion(writer, true)
+            };
+        });
+        Question deleted = questions[0];
+        Question recorded = questions[1];
+        Question rolledBack = questions[2];
+        Question deletedByUnknownUser = questions[3];
+
+        List<JournalEntry> entries = Arrays.asList(
+                entryOf(deleted.getId(), writer),
+                entryOf(recorded.getId(), writer),
+                entryOf(rolledBack.getId(), writer),
+                entryOf(Long.MAX_VALUE, writer),
+                entryOf(deletedByUnknownUser.getId(), unknownUser)
+        );
+
+        // when
+        int replayed = deleteHistoryBatchWriter.replay(entries);
+        int replayedAgain = deleteHistoryBatchWriter.replay(entries);
+
+        // then
+        List<Long> contentIds = deleteHistoryRepository.findAll().stream()
+                .map(DeleteHistory::getContentId)
+                .collect(Collectors.toList());
+        assertAll(
+                () -> assertThat(replayed).isEqualTo(1),
+                () -> assertThat(replayedAgain).isZero(),
+                () -> assertThat(contentIds).containsExactlyInAnyOrder(recorded.getId(), deleted.getId())
+        );
+    }
+}
@@ -0,0 +1,223 @@
+package qna.journal;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import qna.domain.ContentType;
+import qna.domain.DeleteHistory;
+import qna.domain.UserTest;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DeleteHistoryJournalTest {
+    @Mock
+    private DeleteHistoryBatchWriter writer;
+
+    @TempDir
+    Path tempDir;
+
+    private DeleteHistoryJournalProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DeleteHistoryJournalProperties();
+        properties.setPath(tempDir.resolve("delete-history.journal"));
+        properties.setFlushSize(2);
+        properties.setFlushInterval(Duration.ofMillis(10));
+    }
+
+    private static JournalEntry newEntry(long contentId) {
+        return JournalEntry.from(new DeleteHistory(ContentType.ANSWER, contentId, UserTest.JAVAJIGI, LocalDateTime.now()));
+    }
+
+    @Test
+    @DisplayName("저널을 종료하면 queue 에 남아 있는 삭제 이력을 모두 저장하고 저널 파일을 비운다.")
+    void flushOnDestroy() throws Exception {
+        // given
+        DeleteHistoryJournal journal = new DeleteHistoryJournal(properties, writer);
+        journal.afterPropertiesSet();
+        List<JournalEntry> entries = Arrays.asList(newEntry(1L), newEntry(2L), newEntry(3L));
+
+        // when
+        journal.append(entries);
+        journal.destroy();
+
+        // then
+        assertAll(
+                () -> assertThat(writtenContentIds()).containsExactly(1L, 2L, 3L),
+                () -> assertThat(Files.size(properties.getPath())).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("기동할 때 저널 파일에서 커밋되지 않은 삭제 이력만 재생한다.")
+    void replay() throws Exception {
+        // given
+        List<String> lines = Arrays.asList(
+                newEntry(1L).sequenced(1L).toLine(),
+                newEntry(2L).sequenced(2L).toLine(),
+                newEntry(3L).sequenced(3L).toLine(),
+                JournalEntry.TYPE_COMMIT + JournalEntry.SEPARATOR + "1,3",
+                "E\t4\tANSWER\t4"
+        );
+        Files.write(properties.getPath(), lines, StandardCharsets.UTF_8);
+        DeleteHistoryJournal journal = new DeleteHistoryJournal(properties, writer);
+
+        // when
+        journal.afterPropertiesSet();
+        journal.destroy();
+
+        // then
+        assertAll(
+                () -> assertThat(contentIds(replayedEntries())).containsExactly(2L),
+                () -> assertThat(Files.size(properties.getPath())).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("커밋 직전에 기록한 이력은 커밋된 뒤에 저장하고, 롤백되면 재생하지 않도록 표시한다.")
+    void prepareThenPublishOrDiscard() throws Exception {
+        // given
+        DeleteHistoryJournal journal = new DeleteHistoryJournal(properties, writer);
+        journal.afterPropertiesSet();
+        List<JournalEntry> committed = journal.prepare(Arrays.asList(newEntry(1L)));
+        List<JournalEntry> rolledBack = journal.prepare(Arrays.asList(newEntry(2L)));
+        List<String> journaledLines = Files.readAllLines(properties.getPath(), StandardCharsets.UTF_8);
+
+        // when
+        journal.discard(rolledBack);
+        journal.publish(committed);
+        journal.destroy();
+
+        // then
+        assertAll(
+                () -> assertThat(journaledLines).hasSize(2),
+                () -> assertThat(writtenContentIds()).containsExactly(1L),
+                () -> assertThat(Files.size(properties.getPath())).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("queue 에 자리가 없으면 커밋 직전에 호출한 트랜잭션 안에서 바로 저장한다.")
+    void prepareWithoutCapacity() throws Exception {
+        // given
+        properties.setCapacity(1);
+        properties.setOfferTimeout(Duration.ZERO);
+        DeleteHistoryJournal journal = new DeleteHistoryJournal(properties, writer);
+        journal.afterPropertiesSet();
+
+        // when
+        List<JournalEntry> journaled = journal.prepare(Arrays.asList(newEntry(1L), newEntry(2L)));
+        journal.destroy();
+
+        // then
+        assertAll(
+                () -> assertThat(journaled).isEmpty(),
+                () -> assertThat(contentIds(inTransactionEntries())).containsExactly(1L, 2L),
+                () -> verify(writer, never()).write(anyList())
+        );
+    }
+
+    @Test
+    @DisplayName("다른 저널이 사용 중인 파일로는 시작할 수 없다.")
+    void locked() throws Exception {
+        // given
+        DeleteHistoryJournal journal = new DeleteHistoryJournal(properties, writer);
+        journal.afterPropertiesSet();
+        DeleteHistoryJournal other = new DeleteHistoryJournal(properties, writer);
+
+        // when
+        ThrowableAssert.ThrowingCallable throwingCallable = other::afterPropertiesSet;
+
+        // then
+        assertThatThrownBy(throwingCallable).isInstanceOf(IllegalStateException.class);
+        journal.destroy();
+    }
+
+    @Test
+    @DisplayName("저널 파일 경로를 정하지 않으면 시작할 수 없다.")
+    void withoutPath() {
+        // given
+        properties.setPath(null);
+        DeleteHistoryJournal journal = new DeleteHistoryJournal(properties, writer);
+
+        // when
+        ThrowableAssert.ThrowingCallable throwingCallable = journal::afterPropertiesSet;
+
+        // then
+        assertThatThrownBy(throwingCallable).isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("qna.delete-history.journal.path");
+    }
+
+    @Test
+    @DisplayName("저널을 사용하지 않으면 삭제 이력을 바로 저장한다.")
+    void disabled() throws Exception {
+        // given
+        properties.setEnabled(false);
+        DeleteHistoryJournal journal = new DeleteHistoryJournal(properties, writer);
+        journal.afterPropertiesSet();
+
+        // when
+        journal.append(Arrays.asList(newEntry(1L)));
+
+        // then
+        assertAll(
+                () -> assertThat(writtenContentIds()).containsExactly(1L),
+                () -> assertThat(Files.exists(properties.getPath())).isFalse()
+        );
+    }
+
+    private List<Long> writtenContentIds() {
+        ArgumentCaptor<List<JournalEntry>> captor = newCaptor();
+        verify(writer, atLeastOnce()).write(captor.capture());
+        return contentIds(captor.getAllValues());
+    }
+
+    private List<List<JournalEntry>> replayedEntries() {
+        ArgumentCaptor<List<JournalEntry>> captor = newCaptor();
+        verify(writer, atLeastOnce()).replay(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private List<List<JournalEntry>> inTransactionEntries() {
+        ArgumentCaptor<List<JournalEntry>> captor = newCaptor();
+        verify(writer, atLeastOnce()).writeInCurrentTransaction(captor.capture());
+        return captor.getAllValues();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<JournalEntry>> newCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+    private static List<Long> contentIds(List<List<JournalEntry>> batches) {
+        List<Long> contentIds = new ArrayList<>();
+        batches.forEach(entries -> contentIds.addAll(entries.stream()
+                                                            .map(JournalEntry::getContentId)
+                                                            .collect(Collectors.toList())));
+        return contentIds;
+    }
+}
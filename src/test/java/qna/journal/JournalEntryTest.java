@@ -0,0 +1,44 @@
+package qna.journal;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import qna.domain.ContentType;
+import qna.domain.DeleteHistory;
+import qna.domain.UserTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class JournalEntryTest {
+    @Test
+    @DisplayName("삭제 이력을 저널 레코드로 기록하고 다시 읽으면 같은 값이 된다.")
+    void toLineAndParse() {
+        // given
+        DeleteHistory deleteHistory = new DeleteHistory(ContentType.QUESTION, 3L, UserTest.JAVAJIGI, LocalDateTime.now());
+        JournalEntry entry = JournalEntry.from(deleteHistory).sequenced(7L);
+
+        // when
+        JournalEntry parsed = JournalEntry.parse(entry.toLine());
+
+        // then
+        assertAll(
+                () -> assertThat(parsed).isEqualTo(entry),
+                () -> assertThat(parsed.getDeletedById()).isEqualTo(UserTest.JAVAJIGI.getId()),
+                () -> assertThat(parsed.getCreateDate()).isEqualTo(deleteHistory.getCreateDate())
+        );
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 저널 레코드를 읽으면 예외가 발생한다.")
+    void thrownByMalformedLine() {
+        // when
+        ThrowableAssert.ThrowingCallable throwingCallable = () -> JournalEntry.parse("E\t1\tANSWER");
+
+        // then
+        assertThatThrownBy(throwingCallable).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,74 @@
+package qna.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import qna.exception.NotFoundException;
+import qna.repository.UserRepository;
+import qna.service.QnaService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@Sql("/truncate.sql")
+@SpringBootTest(properties = {
+        "qna.delete-history.journal.enabled=false"
+})
+class MetricsTest {
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QnaService qnaService;
+
+    @Test
+    @DisplayName("리포지토리 메서드 호출 시간을 리포지토리와 메서드 이름으로 기록한다.")
+    void repositoryInvocations() {
+        // when
+        userRepository.findAll();
+
+        // then
+        Timer timer = meterRegistry.find("spring.data.repository.invocations")
+                .tag("repository", "UserRepository")
+                .tag("method", "findAll")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("서비스 메서드의 트랜잭션 시간을 예외 종류와 함께 기록한다.")
+    void transactions() {
+        // when
+        assertThatThrownBy(() -> qnaService.findQuestionById(Long.MAX_VALUE))
+                .isInstanceOf(NotFoundException.class);
+
+        // then
+        Timer timer = meterRegistry.find(TransactionMetricsAspect.METRIC_NAME)
+                .tag("class", "QnaService")
+                .tag("method", "findQuestionById")
+                .tag("exception", "NotFoundException")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Hibernate 통계와 커넥션 풀 게이지를 내보낸다.")
+    void gauges() {
+        assertAll(
+                () -> assertThat(meterRegistry.find(HibernateCacheMetrics.HIT_RATIO).gauge()).isNotNull(),
+                () -> assertThat(meterRegistry.find("hibernate.query.executions").meter()).isNotNull(),
+                () -> assertThat(meterRegistry.find("hikaricp.connections.active").gauge()).isNotNull(),
+                () -> assertThat(meterRegistry.find("hikaricp.connections.pending").gauge()).isNotNull()
+        );
+    }
+}
@@ -0,0 +1,132 @@
+package qna.purge;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.domain.*;
+import qna.repository.AnswerRepository;
+import qna.repository.DeleteHistoryRepository;
+import qna.repository.PurgeChunkRepository;
+import qna.repository.QuestionRepository;
+import qna.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@Sql("/truncate.sql")
+@SpringBootTest(properties = {
+        "qna.purge.chunk-size=2",
+        "qna.purge.parallelism=2",
+        "qna.purge.queue-capacity=2",
+        "qna.delete-history.journal.enabled=false"
+})
+class AccountPurgeServiceTest {
+    private static final int QUESTION_COUNT = 5;
+
+    @Autowired
+    private AccountPurgeService accountPurgeService;
+
+    @Autowired
+    private PurgeJobPlanner purgeJobPlanner;
+
+    @Autowired
+    private PurgeChunkWorker purgeChunkWorker;
+
+    @Autowired
+    private PurgeChunkRepository purgeChunkRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private DeleteHistoryRepository deleteHistoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User writer;
+    private List<Question> questions;
+    private Question otherQuestion;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            writer = userRepository.save(UserTest.newInstance());
+            User other = userRepository.save(UserTest.newInstance());
+            questions = new ArrayList<>();
+            for (int i = 0; i < QUESTION_COUNT; i++) {
+                Question question = questionRepository.save(QuestionTest.from(writer));
+                answerRepository.save(AnswerTest.of(question, writer));
+                answerRepository.save(AnswerTest.of(question, other));
+                questions.add(question);
+            }
+            otherQuestion = questionRepository.save(QuestionTest.from(other));
+            answerRepository.save(AnswerTest.of(otherQuestion, writer));
+            answerRepository.save(AnswerTest.of(otherQuestion, writer));
+        });
+        questionRepository.reconcileAnswerCounts(questions.get(0).getId(), otherQuestion.getId());
+    }
+
+    @Test
+    @DisplayName("사용자의 질문과 답변, 그 질문에 달린 다른 사용자의 답변을 구간별로 삭제하고 삭제 이력을 남긴다.")
+    void purge() {
+        // when
+        PurgeJob job = accountPurgeService.purge(writer.getId());
+
+        // then
+        Question purgedOtherQuestion = questionRepository.findById(otherQuestion.getId())
+                .orElseThrow(IllegalStateException::new);
+        Question purgedQuestion = questionRepository.findById(questions.get(0).getId())
+                .orElseThrow(IllegalStateException::new);
+        assertAll(
+                () -> assertThat(job.getStatus()).isEqualTo(PurgeStatus.COMPLETED),
+                () -> assertThat(job.getTotalChunks()).isEqualTo(7),
+                () -> assertThat(job.getCompletedChunks()).isEqualTo(7),
+                () -> assertThat(job.getPurgedRows()).isEqualTo(17),
+                () -> assertThat(questionRepository.findIdsByWriterIdAfter(writer.getId(), 0L, PageRequest.of(0, 100)))
+                        .isEmpty(),
+                () -> assertThat(answerRepository.findIdsByWriterIdAfter(writer.getId(), 0L, PageRequest.of(0, 100)))
+                        .isEmpty(),
+                () -> assertThat(answerRepository.findByQuestionIdAndDeletedFalse(questions.get(0).getId()))
+                        .isEmpty(),
+                () -> assertThat(purgedQuestion.getAnswerCount()).isZero(),
+                () -> assertThat(purgedOtherQuestion.getAnswerCount()).isZero(),
+                () -> assertThat(deleteHistoryRepository.count()).isEqualTo(17)
+        );
+    }
+
+    @Test
+    @DisplayName("중단된 작업을 다시 요청하면 완료되지 않은 구간만 이어서 처리한다.")
+    void resume() {
+        // given
+        PurgeJob planned = purgeJobPlanner.plan(writer.getId());
+        Long firstChunkId = purgeChunkRepository.findIdsByJobIdAndStatus(planned.getId(), PurgeStatus.PENDING).get(0);
+        int purgedBeforeCrash = purgeChunkWorker.purge(firstChunkId);
+
+        // when
+        PurgeJob job = accountPurgeService.purge(writer.getId());
+
+        // then
+        assertAll(
+                () -> assertThat(purgedBeforeCrash).isEqualTo(4),
+                () -> assertThat(job.getId()).isEqualTo(planned.getId()),
+                () -> assertThat(job.getStatus()).isEqualTo(PurgeStatus.COMPLETED),
+                () -> assertThat(job.getPurgedRows()).isEqualTo(17),
+                () -> assertThat(deleteHistoryRepository.count()).isEqualTo(17)
+        );
+    }
+}
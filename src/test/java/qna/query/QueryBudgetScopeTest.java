@@ -0,0 +1,112 @@
+package qna.query;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.jdbc.Sql;
+import qna.domain.Question;
+import qna.domain.QuestionTest;
+import qna.domain.UserTest;
+import qna.exception.QueryBudgetExceededException;
+import qna.repository.QuestionRepository;
+import qna.repository.UserRepository;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@Sql("/truncate.sql")
+@DataJpaTest
+class QueryBudgetScopeTest {
+    private static final int QUESTION_COUNT = 3;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < QUESTION_COUNT; i++) {
+            questionRepository.save(QuestionTest.from(userRepository.save(UserTest.newInstance())));
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("범위 안에서 실행된 SQL 문장 수를 센다.")
+    void count() {
+        // when
+        int statementCount;
+        try (QueryBudgetScope scope = QueryBudgetScope.open("count", 10, 10, QueryBudgetScope.Mode.LOG)) {
+            questionRepository.findFirstPage(PageRequest.of(0, QUESTION_COUNT));
+            questionRepository.count();
+            statementCount = scope.getStatementCount();
+        }
+
+        // then
+        assertThat(statementCount).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("바깥 범위가 열려 있으면 안쪽 범위의 문장도 바깥 범위에서 센다.")
+    void nested() {
+        // when
+        int innerCount;
+        int outerCount;
+        try (QueryBudgetScope outer = QueryBudgetScope.open("outer", 10, 10, QueryBudgetScope.Mode.LOG)) {
+            questionRepository.count();
+            try (QueryBudgetScope inner = QueryBudgetScope.open("inner", 0, 0, QueryBudgetScope.Mode.FAIL)) {
+                questionRepository.count();
+                innerCount = inner.getStatementCount();
+            }
+            outerCount = outer.getStatementCount();
+        }
+
+        // then
+        assertAll(
+                () -> assertThat(innerCount).isEqualTo(2),
+                () -> assertThat(outerCount).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("FAIL 모드에서 파라미터만 다른 같은 문장이 반복되면 N+1 로 보고 예외를 던진다.")
+    void repeatedStatement() {
+        // when, then
+        try (QueryBudgetScope ignored = QueryBudgetScope.open("writers", 10, QUESTION_COUNT - 1,
+                                                             QueryBudgetScope.Mode.FAIL)) {
+            List<Question> questions = questionRepository.findFirstPage(PageRequest.of(0, QUESTION_COUNT));
+            assertThatThrownBy(() -> questions.forEach(question -> question.getWriter().getName()))
+                    .satisfiesAnyOf(
+                            e -> assertThat(e).isInstanceOf(QueryBudgetExceededException.class),
+                            e -> assertThat(e).hasRootCauseInstanceOf(QueryBudgetExceededException.class)
+                    );
+        }
+    }
+
+    @Test
+    @DisplayName("FAIL 모드에서 문장 수가 예산을 넘으면 예외를 던진다.")
+    void tooManyStatements() {
+        // when, then
+        try (QueryBudgetScope ignored = QueryBudgetScope.open("budget", 1, 10, QueryBudgetScope.Mode.FAIL)) {
+            questionRepository.count();
+            assertThatThrownBy(() -> questionRepository.findFirstPage(PageRequest.of(0, QUESTION_COUNT)))
+                    .satisfiesAnyOf(
+                            e -> assertThat(e).isInstanceOf(QueryBudgetExceededException.class),
+                            e -> assertThat(e).hasRootCauseInstanceOf(QueryBudgetExceededException.class)
+                    );
+        }
+    }
+}
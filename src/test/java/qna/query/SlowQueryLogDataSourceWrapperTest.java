@@ -0,0 +1,79 @@
+package qna.query;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class SlowQueryLogDataSourceWrapperTest {
+
+    @Test
+    @DisplayName("DataSource 빈을 감싸 실행한 SQL 을 SlowQueryLogListener 에 넘긴다.")
+    void wrapDataSource() {
+        // given
+        RecordingListener listener = new RecordingListener(new SlowQueryLogProperties());
+        SlowQueryLogDataSourceWrapper wrapper = wrapper(new SlowQueryLogProperties(), listener);
+
+        // when
+        Object wrapped = wrapper.postProcessAfterInitialization(h2DataSource(), "dataSource");
+        new JdbcTemplate((DataSource) wrapped).queryForObject("select 1", Integer.class);
+
+        // then
+        assertAll(
+                () -> assertThat(wrapped).isInstanceOf(ProxyDataSource.class),
+                () -> assertThat(wrapper.postProcessAfterInitialization(wrapped, "dataSource")).isSameAs(wrapped),
+                () -> assertThat(listener.queries).containsExactly("select 1")
+        );
+    }
+
+    @Test
+    @DisplayName("꺼져 있으면 DataSource 를 감싸지 않는다.")
+    void disabled() {
+        // given
+        SlowQueryLogProperties properties = new SlowQueryLogProperties();
+        properties.setEnabled(false);
+        SlowQueryLogDataSourceWrapper wrapper = wrapper(properties, new SlowQueryLogListener(properties));
+        DataSource dataSource = h2DataSource();
+
+        // when, then
+        assertThat(wrapper.postProcessAfterInitialization(dataSource, "dataSource")).isSameAs(dataSource);
+    }
+
+    private static SlowQueryLogDataSourceWrapper wrapper(SlowQueryLogProperties properties,
+                                                         SlowQueryLogListener listener) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("slowQueryLogProperties", properties);
+        beanFactory.addBean("slowQueryLogListener", listener);
+        return new SlowQueryLogDataSourceWrapper(beanFactory.getBeanProvider(SlowQueryLogProperties.class),
+                                                 beanFactory.getBeanProvider(SlowQueryLogListener.class));
+    }
+
+    private static DataSource h2DataSource() {
+        return new DriverManagerDataSource("jdbc:h2:mem:slow-query-log");
+    }
+
+    private static class RecordingListener extends SlowQueryLogListener {
+        private final List<String> queries = new ArrayList<>();
+
+        RecordingListener(SlowQueryLogProperties properties) {
+            super(properties);
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            queryInfoList.forEach(queryInfo -> queries.add(queryInfo.getQuery()));
+            super.afterQuery(execInfo, queryInfoList);
+        }
+    }
+}
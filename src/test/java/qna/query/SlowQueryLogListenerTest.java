@@ -0,0 +1,128 @@
+package qna.query;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class SlowQueryLogListenerTest {
+    private final Logger logger = (Logger) LoggerFactory.getLogger("qna.sql.slow");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("임계 시간을 넘은 SQL 은 샘플링과 관계없이 WARN 으로 남긴다.")
+    void afterQueryOverThreshold() {
+        // given
+        SlowQueryLogListener listener = new SlowQueryLogListener(properties(Duration.ofMillis(100), 0.0));
+
+        // when
+        listener.afterQuery(executionInfo(100), queryInfos());
+
+        // then
+        assertThat(appender.list)
+                .extracting(ILoggingEvent::getLevel, ILoggingEvent::getFormattedMessage)
+                .containsExactly(tuple(Level.WARN, "slow 100ms repository=- success=true query=[select 1]"));
+    }
+
+    @Test
+    @DisplayName("임계 시간보다 빠른 SQL 은 sampleRate 비율만 INFO 로 남긴다.")
+    void afterQueryUnderThreshold() {
+        // given
+        SlowQueryLogListener sampling = new SlowQueryLogListener(properties(Duration.ofMillis(100), 1.0));
+        SlowQueryLogListener notSampling = new SlowQueryLogListener(properties(Duration.ofMillis(100), 0.0));
+
+        // when
+        sampling.afterQuery(executionInfo(99), queryInfos());
+        notSampling.afterQuery(executionInfo(99), queryInfos());
+
+        // then
+        assertThat(appender.list)
+                .extracting(ILoggingEvent::getLevel, ILoggingEvent::getFormattedMessage)
+                .containsExactly(tuple(Level.INFO, "sampled 99ms repository=- success=true query=[select 1]"));
+    }
+
+    @Test
+    @DisplayName("실행 시간, 호출한 리포지토리 메서드, SQL 과 바인딩된 파라미터를 한 줄로 남긴다.")
+    void describe() throws Exception {
+        // given
+        ExecutionInfo execInfo = new ExecutionInfo();
+        execInfo.setElapsedTime(250);
+        execInfo.setSuccess(true);
+        QueryInfo queryInfo = new QueryInfo(
+                "select * from question where writer_id = ? and deleted = ? and updated_at > ?");
+        queryInfo.getParametersList().add(Arrays.asList(
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setLong", int.class, long.class),
+                                          new Object[]{1, 7L}),
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setBoolean", int.class, boolean.class),
+                                          new Object[]{2, false}),
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setNull", int.class, int.class),
+                                          new Object[]{3, Types.TIMESTAMP})
+        ));
+
+        // when
+        String previous = RepositoryMethodContext.enter("QuestionRepository.findByWriterId");
+        String description;
+        try {
+            description = SlowQueryLogListener.describe(execInfo, Collections.singletonList(queryInfo));
+        } finally {
+            RepositoryMethodContext.exit(previous);
+        }
+
+        // then
+        assertAll(
+                () -> assertThat(description).startsWith("250ms repository=QuestionRepository.findByWriterId"),
+                () -> assertThat(description)
+                        .contains("query=[select * from question where writer_id = ? and deleted = ? and updated_at > ?]"),
+                () -> assertThat(description).endsWith("params=[7,false,null]"),
+                () -> assertThat(RepositoryMethodContext.current()).isNull()
+        );
+    }
+
+    private static SlowQueryLogProperties properties(Duration threshold, double sampleRate) {
+        SlowQueryLogProperties properties = new SlowQueryLogProperties();
+        properties.setThreshold(threshold);
+        properties.setSampleRate(sampleRate);
+        return properties;
+    }
+
+    private static ExecutionInfo executionInfo(long elapsedTime) {
+        ExecutionInfo execInfo = new ExecutionInfo();
+        execInfo.setElapsedTime(elapsedTime);
+        execInfo.setSuccess(true);
+        return execInfo;
+    }
+
+    private static List<QueryInfo> queryInfos() {
+        return Collections.singletonList(new QueryInfo("select 1"));
+    }
+}
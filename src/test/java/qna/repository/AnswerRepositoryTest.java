@@ -1,5 +1,6 @@
 package qna.repository;
 
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,6 +9,7 @@ import org.springframework.test.context.jdbc.Sql;
 import qna.domain.*;
 
 import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,6 +40,32 @@ class AnswerRepositoryTest {
         assertThat(findAnswer1).isEqualTo(answer);
     }
 
+    @Test
+    @DisplayName("질문 프록시로 답변을 등록하면 질문과 답변 컬렉션을 초기화하지 않는다.")
+    void postWithQuestionReference() {
+        // given
+        User writer = UserTest.newInstance();
+        Question question = QuestionTest.from(writer);
+        answerRepository.save(AnswerTest.of(question, writer));
+        em.flush();
+        em.clear();
+        Question questionReference = em.getReference(Question.class, question.getId());
+        User writerReference = em.getReference(User.class, writer.getId());
+
+        // when
+        Answer answer = answerRepository.save(Answer.post(writerReference, questionReference, "answer contents"));
+        em.flush();
+
+        // then
+        assertAll(
+                () -> assertThat(Hibernate.isInitialized(questionReference)).isFalse(),
+                () -> assertThat(answerRepository.findByQuestionIdAndDeletedFalse(question.getId()))
+                        .extracting(Answer::getId)
+                        .contains(answer.getId())
+                        .hasSize(2)
+        );
+    }
+
     @Test
     @DisplayName("답변을 수정한다.")
     void update() {
@@ -114,6 +142,26 @@ class AnswerRepositoryTest {
         assertThat(answers).containsExactly(answer1, answer2);
     }
 
+    @Test
+    @DisplayName("question_id로 삭제되지 않은 답변의 요약 정보를 조회한다.")
+    void findSummariesByQuestionId() {
+        // given
+        User user = UserTest.newInstance();
+        Question question = QuestionTest.from(user);
+        Answer answer = answerRepository.save(AnswerTest.of(question, user));
+        answerRepository.save(AnswerTest.of(question, user)).delete(user);
+
+        // when
+        List<AnswerSummary> summaries = answerRepository.findSummariesByQuestionId(question.getId());
+
+        // then
+        assertAll(
+                () -> assertThat(summaries).extracting(AnswerSummary::getId).containsExactly(answer.getId()),
+                () -> assertThat(summaries.get(0).getQuestionId()).isEqualTo(question.getId()),
+                () -> assertThat(summaries.get(0).getWriterName()).isEqualTo(user.getName())
+        );
+    }
+
     @Test
     @DisplayName("id로 삭제되지 않은 답변을 조회한다.")
     void findByIdAndDeletedFalse() {
@@ -128,6 +176,74 @@ class AnswerRepositoryTest {
         assertThat(findAnswer).isEqualTo(answer);
     }
 
+    @Test
+    @DisplayName("question_id로 다른 사람이 쓴 삭제되지 않은 답변이 있는지 조회한다.")
+    void existsByQuestionIdAndDeletedFalseAndWriterNot() {
+        // given
+        User writer = UserTest.newInstance();
+        User otherWriter = UserTest.newInstance();
+        Question question = QuestionTest.from(writer);
+        answerRepository.save(AnswerTest.of(question, writer));
+        Answer otherWriterAnswer = answerRepository.save(AnswerTest.of(question, otherWriter));
+
+        // when
+        boolean existsBeforeDelete = answerRepository.existsByQuestionIdAndDeletedFalseAndWriterNot(question.getId(), writer);
+        otherWriterAnswer.delete(otherWriter);
+        boolean existsAfterDelete = answerRepository.existsByQuestionIdAndDeletedFalseAndWriterNot(question.getId(), writer);
+
+        // then
+        assertAll(
+                () -> assertThat(existsBeforeDelete).isTrue(),
+                () -> assertThat(existsAfterDelete).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("질문의 삭제되지 않은 답변 id 를 조회해 그 id 로 한 번에 삭제 상태로 변경한다.")
+    void softDeleteAllByIdIn() {
+        // given
+        User user = UserTest.newInstance();
+        Question question = QuestionTest.from(user);
+        Answer answer1 = answerRepository.save(AnswerTest.of(question, user));
+        Answer answer2 = answerRepository.save(AnswerTest.of(question, user));
+        List<Long> answerIds = answerRepository.findIdsByQuestionIdAndDeletedFalse(question.getId());
+
+        // when
+        int deletedCount = answerRepository.softDeleteAllByIdIn(answerIds, LocalDateTime.now());
+        int deletedAgainCount = answerRepository.softDeleteAllByIdIn(answerIds, LocalDateTime.now());
+        em.clear();
+
+        // then
+        assertAll(
+                () -> assertThat(answerIds).containsExactly(answer1.getId(), answer2.getId()),
+                () -> assertThat(deletedCount).isEqualTo(2),
+                () -> assertThat(deletedAgainCount).isZero(),
+                () -> assertThat(answerRepository.findByQuestionIdAndDeletedFalse(question.getId())).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("답변을 조회하면 본문(contents)은 처음 접근할 때 읽는다.")
+    void lazyContents() {
+        // given
+        Answer answer = answerRepository.save(AnswerTest.newInstance());
+        em.flush();
+        em.clear();
+
+        // when
+        Answer findAnswer = answerRepository.findById(answer.getId())
+                .orElseThrow(IllegalStateException::new);
+        boolean initializedBeforeAccess = Hibernate.isPropertyInitialized(findAnswer, "contents");
+        String contents = findAnswer.getContents();
+
+        // then
+        assertAll(
+                () -> assertThat(initializedBeforeAccess).isFalse(),
+                () -> assertThat(contents).isEqualTo(answer.getContents()),
+                () -> assertThat(Hibernate.isPropertyInitialized(findAnswer, "contents")).isTrue()
+        );
+    }
+
     @Test
     @DisplayName("연관 관계 매핑 후 객체 그래프 탐색 및 지연 로딩 테스트")
     void lazyLoading() {
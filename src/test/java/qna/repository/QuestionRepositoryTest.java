@@ -1,17 +1,26 @@
 package qna.repository;
 
 import org.assertj.core.api.ThrowableAssert;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.jdbc.Sql;
+import qna.cache.QuestionSnapshot;
+import qna.domain.Answer;
+import qna.domain.AnswerTest;
+import qna.domain.DeleteHistory;
 import qna.domain.Question;
 import qna.domain.QuestionTest;
+import qna.domain.User;
 import qna.domain.UserTest;
+import qna.query.QueryBudgetScope;
 
 import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +34,9 @@ class QuestionRepositoryTest {
     @Autowired
     private QuestionRepository questionRepository;
 
+    @Autowired
+    private AnswerRepository answerRepository;
+
     @Autowired
     private EntityManager em;
 
@@ -137,6 +149,62 @@ class QuestionRepositoryTest {
         assertThat(questions).containsExactly(q1, q2);
     }
 
+    @Test
+    @DisplayName("삭제되지 않은 질문을 최신순으로 커서 이후부터 지정한 개수만큼 조회한다.")
+    void findPageAfter() {
+        // given
+        Question q1 = questionRepository.save(QuestionTest.newInstance());
+        Question q2 = questionRepository.save(QuestionTest.newInstance());
+        Question q3 = questionRepository.save(QuestionTest.newInstance());
+
+        // when
+        List<Question> firstPage = questionRepository.findFirstPage(PageRequest.of(0, 2));
+        Question last = firstPage.get(firstPage.size() - 1);
+        List<Question> nextPage = questionRepository.findPageAfter(last.getCreatedAt(), last.getId(), PageRequest.of(0, 2));
+
+        // then
+        assertAll(
+                () -> assertThat(firstPage).containsExactly(q3, q2),
+                () -> assertThat(nextPage).containsExactly(q1)
+        );
+    }
+
+    @Test
+    @DisplayName("삭제되지 않은 질문의 요약 정보를 삭제되지 않은 답변 수와 함께 조회한다.")
+    void findSummaryFirstPage() {
+        // given
+        User writer = UserTest.newInstance();
+        Question question = QuestionTest.from(writer);
+        saveAnswer(question, writer);
+        saveAnswer(question, writer);
+        Answer deletedAnswer = saveAnswer(question, writer);
+        deletedAnswer.delete(writer);
+        questionRepository.decreaseAnswerCount(question.getId(), 1);
+        Question noAnswerQuestion = questionRepository.save(QuestionTest.from(writer));
+
+        // when
+        List<QuestionSummary> summaries = questionRepository.findSummaryFirstPage(PageRequest.of(0, 10));
+
+        // then
+        assertAll(
+                () -> assertThat(summaries).extracting(QuestionSummary::getId)
+                        .containsExactly(noAnswerQuestion.getId(), question.getId()),
+                () -> assertThat(summaries).extracting(QuestionSummary::getAnswerCount)
+                        .containsExactly(0L, 2L),
+                () -> assertThat(summaries.get(1).getTitle()).isEqualTo(question.getTitle()),
+                () -> assertThat(summaries.get(1).getWriterName()).isEqualTo(writer.getName())
+        );
+    }
+
+    /**
+     * {@link qna.service.QnaService#addAnswer} 처럼 답변을 저장하면서 질문의 답변 수를 함께 늘린다.
+     */
+    private Answer saveAnswer(Question question, User writer) {
+        Answer answer = answerRepository.save(Answer.post(writer, question, "answer contents"));
+        questionRepository.increaseAnswerCount(question.getId());
+        return answer;
+    }
+
     @Test
     @DisplayName("id로 삭제되지 않은 질문을 조회한다.")
     void findByIdAndDeletedFalse() {
@@ -151,6 +219,224 @@ class QuestionRepositoryTest {
         assertThat(findQuestion).isEqualTo(q1);
     }
 
+    @Test
+    @DisplayName("id로 질문과 삭제되지 않은 답변, 작성자를 한 번에 조회한다.")
+    void findAggregateById() {
+        // given
+        User writer = UserTest.newInstance();
+        User otherWriter = UserTest.newInstance();
+        Question question = QuestionTest.from(writer);
+        Answer answer = answerRepository.save(AnswerTest.of(question, writer));
+        Answer deletedAnswer = answerRepository.save(AnswerTest.of(question, otherWriter));
+        deletedAnswer.delete(otherWriter);
+        em.flush();
+        em.clear();
+
+        // when
+        Question findQuestion;
+        int statementCount;
+        try (QueryBudgetScope scope = QueryBudgetScope.open("aggregate", 10, 10, QueryBudgetScope.Mode.LOG)) {
+            findQuestion = questionRepository.findAggregateById(question.getId(), QuestionGraph.WITH_ANSWERS_AND_WRITERS)
+                    .orElseThrow(IllegalStateException::new);
+            findQuestion.getWriter().getName();
+            findQuestion.getAnswers().getValues().forEach(findAnswer -> findAnswer.getWriter().getName());
+            statementCount = scope.getStatementCount();
+        }
+        em.clear();
+
+        // then
+        List<Answer> answers = findQuestion.getAnswers().getValues();
+        assertAll(
+                () -> assertThat(statementCount).isEqualTo(1),
+                () -> assertThat(findQuestion.getWriter().getName()).isEqualTo(writer.getName()),
+                () -> assertThat(answers).extracting(Answer::getId).containsExactly(answer.getId()),
+                () -> assertThat(answers.get(0).getWriter().getName()).isEqualTo(writer.getName())
+        );
+    }
+
+    @Test
+    @DisplayName("작성자가 없는 질문도 답변을 함께 조회하는 그래프로 찾을 수 있다.")
+    void findAggregateByIdWithoutWriter() {
+        // given
+        Question question = questionRepository.save(new Question("title", "contents"));
+        em.flush();
+        em.clear();
+
+        // when
+        Optional<Question> withAnswers = questionRepository.findAggregateById(question.getId(),
+                                                                              QuestionGraph.WITH_ANSWERS);
+        Optional<Question> withWriters = questionRepository.findAggregateById(question.getId(),
+                                                                              QuestionGraph.WITH_ANSWERS_AND_WRITERS);
+
+        // then
+        assertAll(
+                () -> assertThat(withAnswers).isPresent(),
+                () -> assertThat(withWriters).isPresent()
+        );
+    }
+
+    @Test
+    @DisplayName("다른 사람이 쓴 답변이 이미 삭제되었으면 질문을 삭제할 수 있고, 삭제된 답변의 이력은 다시 남기지 않는다.")
+    void deleteWithDeletedAnswerOfOtherWriter() {
+        // given
+        User writer = UserTest.newInstance();
+        User otherWriter = UserTest.newInstance();
+        Question question = QuestionTest.from(writer);
+        Answer answer = answerRepository.save(AnswerTest.of(question, writer));
+        Answer deletedAnswer = answerRepository.save(AnswerTest.of(question, otherWriter));
+        deletedAnswer.delete(otherWriter);
+        em.flush();
+        em.clear();
+        Question findQuestion = questionRepository.findByIdAndDeletedFalse(question.getId())
+                .orElseThrow(IllegalStateException::new);
+
+        // when
+        List<DeleteHistory> deleteHistories = findQuestion.delete(writer);
+
+        // then
+        assertAll(
+                () -> assertThat(findQuestion.isDeleted()).isTrue(),
+                () -> assertThat(deleteHistories).extracting(DeleteHistory::getContentId)
+                        .containsExactly(question.getId(), answer.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("id로 삭제되지 않은 질문의 스냅샷을 조회한다.")
+    void findSnapshotById() {
+        // given
+        Question question = questionRepository.save(QuestionTest.newInstance());
+
+        // when
+        QuestionSnapshot snapshot = questionRepository.findSnapshotById(question.getId())
+                .orElseThrow(IllegalStateException::new);
+
+        // then
+        assertAll(
+                () -> assertThat(snapshot.getTitle()).isEqualTo(question.getTitle()),
+                () -> assertThat(snapshot.getContents()).isEqualTo(question.getContents()),
+                () -> assertThat(snapshot.getWriter().getName()).isEqualTo(question.getWriter().getName()),
+                () -> assertThat(snapshot.getAnswers()).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("답변 수를 원자적으로 증가, 감소시킨다.")
+    void increaseAndDecreaseAnswerCount() {
+        // given
+        Question question = questionRepository.save(QuestionTest.newInstance());
+        em.flush();
+
+        // when
+        questionRepository.increaseAnswerCount(question.getId());
+        questionRepository.increaseAnswerCount(question.getId());
+        questionRepository.decreaseAnswerCount(question.getId(), 1);
+        em.clear();
+
+        // then
+        Question findQuestion = questionRepository.findById(question.getId())
+                .orElseThrow(IllegalStateException::new);
+        assertThat(findQuestion.getAnswerCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("답변 수를 늘리면 version 이 오르고, 삭제된 질문의 답변 수는 늘리지 않는다.")
+    void increaseAnswerCountVersioned() {
+        // given
+        Question question = questionRepository.save(QuestionTest.newInstance());
+        Question deletedQuestion = questionRepository.save(QuestionTest.newInstance());
+        em.flush();
+        questionRepository.softDeleteById(deletedQuestion.getId(), deletedQuestion.getVersion(), LocalDateTime.now());
+        long version = question.getVersion();
+
+        // when
+        int increased = questionRepository.increaseAnswerCount(question.getId());
+        int increasedDeleted = questionRepository.increaseAnswerCount(deletedQuestion.getId());
+        em.clear();
+
+        // then
+        Question findQuestion = questionRepository.findById(question.getId())
+                .orElseThrow(IllegalStateException::new);
+        assertAll(
+                () -> assertThat(increased).isEqualTo(1),
+                () -> assertThat(increasedDeleted).isZero(),
+                () -> assertThat(findQuestion.getVersion()).isEqualTo(version + 1)
+        );
+    }
+
+    @Test
+    @DisplayName("답변 수가 실제 삭제되지 않은 답변 수와 다르면 보정한다.")
+    void reconcileAnswerCounts() {
+        // given
+        User writer = UserTest.newInstance();
+        Question question = QuestionTest.from(writer);
+        answerRepository.save(AnswerTest.of(question, writer));
+        em.flush();
+        questionRepository.increaseAnswerCount(question.getId());
+        questionRepository.increaseAnswerCount(question.getId());
+
+        // when
+        int reconciled = questionRepository.reconcileAnswerCounts(question.getId(), question.getId());
+        int reconciledAgain = questionRepository.reconcileAnswerCounts(question.getId(), question.getId());
+        em.clear();
+
+        // then
+        Question findQuestion = questionRepository.findById(question.getId())
+                .orElseThrow(IllegalStateException::new);
+        assertAll(
+                () -> assertThat(reconciled).isEqualTo(1),
+                () -> assertThat(reconciledAgain).isZero(),
+                () -> assertThat(findQuestion.getAnswerCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("id로 삭제되지 않은 질문을 읽어 둔 version 그대로일 때만 삭제 상태로 변경한다.")
+    void softDeleteById() {
+        // given
+        Question question = questionRepository.save(QuestionTest.newInstance());
+        em.flush();
+        long loadedVersion = question.getVersion();
+        questionRepository.increaseAnswerCount(question.getId());
+
+        // when
+        int staleCount = questionRepository.softDeleteById(question.getId(), loadedVersion, LocalDateTime.now());
+        int deletedCount = questionRepository.softDeleteById(question.getId(), loadedVersion + 1, LocalDateTime.now());
+        int deletedAgainCount = questionRepository.softDeleteById(question.getId(), loadedVersion + 2,
+                                                                  LocalDateTime.now());
+        em.clear();
+
+        // then
+        assertAll(
+                () -> assertThat(staleCount).isZero(),
+                () -> assertThat(deletedCount).isEqualTo(1),
+                () -> assertThat(deletedAgainCount).isZero(),
+                () -> assertThat(questionRepository.findByIdAndDeletedFalse(question.getId())).isNotPresent()
+        );
+    }
+
+    @Test
+    @DisplayName("질문을 조회하면 본문(contents)은 처음 접근할 때 읽는다.")
+    void lazyContents() {
+        // given
+        Question question = questionRepository.save(QuestionTest.newInstance());
+        em.flush();
+        em.clear();
+
+        // when
+        Question findQuestion = questionRepository.findById(question.getId())
+                .orElseThrow(IllegalStateException::new);
+        boolean initializedBeforeAccess = Hibernate.isPropertyInitialized(findQuestion, "contents");
+        String contents = findQuestion.getContents();
+
+        // then
+        assertAll(
+                () -> assertThat(initializedBeforeAccess).isFalse(),
+                () -> assertThat(contents).isEqualTo(question.getContents()),
+                () -> assertThat(Hibernate.isPropertyInitialized(findQuestion, "contents")).isTrue()
+        );
+    }
+
     @Test
     @DisplayName("연관 관계 매핑 후 객체 그래프 탐색 및 지연 로딩 테스트")
     void lazyLoading() {
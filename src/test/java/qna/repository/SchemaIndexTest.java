@@ -0,0 +1,49 @@
+package qna.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class SchemaIndexTest {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DisplayName("삭제 여부 조회 패턴에 맞는 복합 인덱스가 생성된다.")
+    @ParameterizedTest(name = "{displayName} table={0}, index={1}, columns={2}")
+    @CsvSource(value = {
+            "ANSWER:IX_ANSWER_QUESTION_ID_DELETED:QUESTION_ID,DELETED",
+            "ANSWER:IX_ANSWER_WRITER_ID_DELETED:WRITER_ID,DELETED",
+            "QUESTION:IX_QUESTION_DELETED_CREATED_AT_ID:DELETED,CREATED_AT,ID",
+            "QUESTION:IX_QUESTION_WRITER_ID_DELETED:WRITER_ID,DELETED"}, delimiterString = ":")
+    void index(String tableName, String indexName, String columns) {
+        // when
+        List<String> indexColumns = jdbcTemplate.queryForList(
+                "select column_name from information_schema.indexes " +
+                        "where table_name = ? and index_name = ? order by ordinal_position",
+                String.class, tableName, indexName);
+
+        // then
+        assertThat(indexColumns).containsExactlyElementsOf(Arrays.asList(columns.split(",")));
+    }
+
+    @Test
+    @DisplayName("question_id로 삭제되지 않은 답변을 조회하면 (question_id, deleted) 인덱스를 사용한다.")
+    void explainFindByQuestionIdAndDeletedFalse() {
+        // when
+        String plan = jdbcTemplate.queryForObject(
+                "explain select id from answer where question_id = 1 and deleted = false", String.class);
+
+        // then
+        assertThat(plan).containsIgnoringCase("IX_ANSWER_QUESTION_ID_DELETED");
+    }
+}
@@ -1,6 +1,8 @@
 package qna.repository;
 
 import org.assertj.core.api.ThrowableAssert;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -9,14 +11,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import qna.domain.User;
 import qna.domain.UserTest;
 
+import javax.persistence.EntityManager;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 @Sql("/truncate.sql")
 @DataJpaTest
@@ -24,6 +31,12 @@ class UserRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @Test
     @DisplayName("사용자를 등록한다.")
     void save() {
@@ -132,4 +145,45 @@ class UserRepositoryTest {
         // then
         assertThat(findUser1).isEqualTo(user);
     }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("이름과 이메일을 수정한 뒤 user_id로 조회하면 2차 캐시에서 수정된 사용자를 조회한다.")
+    void findByUserIdAfterUpdate() {
+        // given
+        User user = transactionTemplate.execute(status -> userRepository.save(UserTest.newInstance()));
+        User target = User.builder()
+                .userId(user.getUserId())
+                .password(user.getPassword())
+                .name("changed")
+                .email("changed@test.com")
+                .build();
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        userRepository.findByUserId(user.getUserId());
+        long hitsBeforeUpdate = statistics.getSecondLevelCacheHitCount();
+        long statementsBeforeUpdate = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        transactionTemplate.executeWithoutResult(status -> userRepository.findById(user.getId())
+                .orElseThrow(IllegalStateException::new)
+                .update(user, target));
+        long putsByUpdate = statistics.getSecondLevelCachePutCount();
+        statistics.clear();
+
+        // when
+        User findUser = userRepository.findByUserId(user.getUserId())
+                .orElseThrow(IllegalStateException::new);
+
+        // then
+        assertAll(
+                () -> assertThat(hitsBeforeUpdate).isPositive(),
+                () -> assertThat(statementsBeforeUpdate).isZero(),
+                () -> assertThat(putsByUpdate).isPositive(),
+                () -> assertThat(findUser.equalsNameAndEmail(target)).isTrue(),
+                () -> assertThat(statistics.getSecondLevelCacheHitCount()).isPositive(),
+                () -> assertThat(statistics.getSecondLevelCacheMissCount()).isZero(),
+                () -> assertThat(statistics.getPrepareStatementCount()).isZero()
+        );
+    }
 }
@@ -0,0 +1,198 @@
+package qna.retry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.domain.Question;
+import qna.domain.QuestionTest;
+import qna.domain.User;
+import qna.domain.UserTest;
+import qna.exception.CannotDeleteException;
+import qna.exception.NotFoundException;
+import qna.repository.AnswerRepository;
+import qna.repository.DeleteHistoryRepository;
+import qna.repository.QuestionRepository;
+import qna.repository.UserRepository;
+import qna.service.QnaService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Sql("/truncate.sql")
+@SpringBootTest(properties = {
+        "qna.conflict-retry.max-attempts=3",
+        "qna.conflict-retry.initial-backoff=1ms",
+        "qna.delete-history.journal.enabled=false"
+})
+class ConflictRetryTest {
+    private static final int RACERS = 4;
+
+    @Autowired
+    private ConflictingOperation conflictingOperation;
+
+    @Autowired
+    private QnaService qnaService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private DeleteHistoryRepository deleteHistoryRepository;
+
+    @SpyBean
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("낙관적 락 충돌이면 maxAttempts 번까지 다시 실행한다.")
+    void retry() {
+        // given
+        conflictingOperation.failNext(2);
+
+        // when
+        String result = conflictingOperation.run();
+
+        // then
+        assertAll(
+                () -> assertThat(result).isEqualTo("done"),
+                () -> assertThat(conflictingOperation.getAttempts()).isEqualTo(3)
+        );
+    }
+
+    @Test
+    @DisplayName("maxAttempts 번 모두 충돌하면 마지막 예외를 그대로 던진다.")
+    void exhausted() {
+        // given
+        conflictingOperation.failNext(3);
+
+        // when, then
+        assertAll(
+                () -> assertThatThrownBy(() -> conflictingOperation.run())
+                        .isInstanceOf(OptimisticLockingFailureException.class),
+                () -> assertThat(conflictingOperation.getAttempts()).isEqualTo(3)
+        );
+    }
+
+    @Test
+    @DisplayName("같은 질문을 동시에 삭제하면 하나만 성공하고 삭제 이력은 한 번만 남는다.")
+    void concurrentDelete() throws Exception {
+        // given
+        Question question = transactionTemplate.execute(status -> questionRepository.save(
+                QuestionTest.from(userRepository.save(UserTest.newInstance()))));
+        User writer = question.getWriter();
+
+        // when
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger notFound = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(RACERS);
+        List<Future<?>> racers = new ArrayList<>();
+        for (int i = 0; i < RACERS; i++) {
+            racers.add(executor.submit(() -> {
+                start.await();
+                try {
+                    qnaService.deleteQuestion(writer, question.getId());
+                    succeeded.incrementAndGet();
+                } catch (NotFoundException e) {
+                    notFound.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> racer : racers) {
+            racer.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertAll(
+                () -> assertThat(succeeded.get()).isEqualTo(1),
+                () -> assertThat(notFound.get()).isEqualTo(RACERS - 1),
+                () -> assertThat(deleteHistoryRepository.count()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("일괄 삭제가 질문을 읽은 뒤 다른 사용자의 답변으로 version 이 바뀌면 다시 실행해 삭제를 거부한다.")
+    void bulkDeleteAfterConcurrentAnswer() {
+        // given
+        Question question = transactionTemplate.execute(status -> questionRepository.save(
+                QuestionTest.from(userRepository.save(UserTest.newInstance()))));
+        User writer = question.getWriter();
+        User other = transactionTemplate.execute(status -> userRepository.save(UserTest.newInstance()));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        doAnswer(invocation -> {
+            executor.submit(() -> qnaService.addAnswer(other, question.getId(), "answer contents")).get();
+            return false;
+        }).doReturn(true)
+                .when(answerRepository).existsByQuestionIdAndDeletedFalseAndWriterNot(question.getId(), writer);
+
+        // when, then
+        assertThatThrownBy(() -> qnaService.deleteQuestionInBulk(writer, question.getId()))
+                .isInstanceOf(CannotDeleteException.class);
+        executor.shutdown();
+        assertAll(
+                () -> verify(answerRepository, times(2))
+                        .existsByQuestionIdAndDeletedFalseAndWriterNot(question.getId(), writer),
+                () -> assertThat(questionRepository.existsByIdAndDeletedFalse(question.getId())).isTrue(),
+                () -> assertThat(answerRepository.findIdsByQuestionIdAndDeletedFalse(question.getId())).hasSize(1),
+                () -> assertThat(deleteHistoryRepository.count()).isZero()
+        );
+    }
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        ConflictingOperation conflictingOperation() {
+            return new ConflictingOperation();
+        }
+    }
+
+    static class ConflictingOperation {
+        private final AtomicInteger remainingFailures = new AtomicInteger();
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        void failNext(int failures) {
+            remainingFailures.set(failures);
+            attempts.set(0);
+        }
+
+        @RetryOnConflict
+        public String run() {
+            attempts.incrementAndGet();
+            if (remainingFailures.getAndDecrement() > 0) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            return "done";
+        }
+
+        int getAttempts() {
+            return attempts.get();
+        }
+    }
+}
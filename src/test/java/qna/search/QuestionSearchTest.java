@@ -0,0 +1,128 @@
+package qna.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.domain.Answer;
+import qna.domain.Question;
+import qna.domain.User;
+import qna.domain.UserTest;
+import qna.repository.AnswerRepository;
+import qna.repository.QuestionRepository;
+import qna.repository.UserRepository;
+import qna.service.QnaService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@Sql("/truncate.sql")
+@SpringBootTest(properties = {
+        "qna.search.refresh-interval=1h",
+        "qna.search.reindex-partition-size=2",
+        "qna.search.reindex-parallelism=2",
+        "qna.delete-history.journal.enabled=false"
+})
+class QuestionSearchTest {
+    @Autowired
+    private QuestionIndexer questionIndexer;
+
+    @Autowired
+    private QnaService qnaService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User writer;
+
+    @BeforeEach
+    void setUp() {
+        questionIndexer.reindexAll();
+        writer = userRepository.save(UserTest.newInstance());
+    }
+
+    @Test
+    @DisplayName("커밋된 질문과 답변을 색인하고, 제목에 검색어가 있는 질문을 가장 앞에 둔다.")
+    void search() {
+        // given
+        Question inTitle = save("스프링 트랜잭션", "전파 속성이 궁금합니다");
+        Question inContents = save("트랜잭션 전파", "스프링 전파 속성이 궁금합니다");
+        Question inAnswer = save("전파 속성", "REQUIRES_NEW 는 언제 쓰나요");
+        save("자바 제네릭", "와일드카드가 궁금합니다");
+        transactionTemplate.executeWithoutResult(status -> answerRepository.save(
+                new Answer(userRepository.getById(writer.getId()), questionRepository.getById(inAnswer.getId()),
+                           "스프링 문서를 보세요")));
+
+        // when
+        questionIndexer.flush();
+        Page<Long> result = qnaService.searchQuestionIds("스프링", 0, 10);
+
+        // then
+        assertAll(
+                () -> assertThat(result.getContent()).containsExactlyInAnyOrder(inTitle.getId(), inContents.getId(),
+                                                                               inAnswer.getId()),
+                () -> assertThat(result.getContent().get(0)).isEqualTo(inTitle.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("삭제된 질문은 색인에서 지운다.")
+    void deleted() {
+        // given
+        Question question = save("스프링 트랜잭션", "전파 속성이 궁금합니다");
+        questionIndexer.flush();
+
+        // when
+        qnaService.deleteQuestion(writer, question.getId());
+        questionIndexer.flush();
+
+        // then
+        assertThat(qnaService.searchQuestionIds("스프링", 0, 10).getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전체 재색인은 id 구간을 나누어 모든 질문을 색인하고, 결과를 페이지로 나누어 돌려준다.")
+    void reindexAll() {
+        // given
+        List<Long> questionIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            questionIds.add(save("스프링 질문 " + i, "본문 " + i).getId());
+        }
+
+        // when
+        int indexed = questionIndexer.reindexAll();
+        Page<Long> firstPage = qnaService.searchQuestionIds("스프링", 0, 2);
+        Page<Long> lastPage = qnaService.searchQuestionIds("스프링", 2, 2);
+
+        // then
+        assertAll(
+                () -> assertThat(indexed).isEqualTo(5),
+                () -> assertThat(firstPage.getContent()).hasSize(2),
+                () -> assertThat(firstPage.getTotalElements()).isEqualTo(5),
+                () -> assertThat(lastPage.getContent()).hasSize(1),
+                () -> assertThat(lastPage.hasNext()).isFalse(),
+                () -> assertThat(questionIds).containsAll(firstPage.getContent())
+        );
+    }
+
+    private Question save(String title, String contents) {
+        return transactionTemplate.execute(status -> questionRepository.save(
+                new Question(title, contents).writeBy(userRepository.getById(writer.getId()))));
+    }
+}
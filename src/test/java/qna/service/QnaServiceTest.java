@@ -6,10 +6,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import qna.domain.*;
+import qna.event.QuestionChangedEvent;
 import qna.exception.CannotDeleteException;
+import qna.exception.NotFoundException;
+import qna.exception.UnAuthorizedException;
 import qna.repository.AnswerRepository;
 import qna.repository.QuestionRepository;
+import qna.repository.UserRepository;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -18,6 +25,11 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -29,9 +41,15 @@ class QnaServiceTest {
     @Mock
     private AnswerRepository answerRepository;
 
+    @Mock
+    private UserRepository userRepository;
+
     @Mock
     private DeleteHistoryService deleteHistoryService;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @InjectMocks
     private QnaService qnaService;
 
@@ -73,9 +91,39 @@ class QnaServiceTest {
 
         assertThat(question.isDeleted()).isTrue();
         assertThat(answer.isDeleted()).isTrue();
+        verify(questionRepository).decreaseAnswerCount(question.getId(), 1);
         verifyDeleteHistories();
     }
 
+    @Test
+    void addAnswer_성공() {
+        when(questionRepository.increaseAnswerCount(question.getId())).thenReturn(1);
+        when(questionRepository.getById(question.getId())).thenReturn(question);
+        when(userRepository.getById(UserTest.SANJIGI.getId())).thenReturn(UserTest.SANJIGI);
+        when(answerRepository.save(any(Answer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Answer newAnswer = qnaService.addAnswer(UserTest.SANJIGI, question.getId(), "Answers Contents2");
+
+        assertThat(newAnswer.getWriter()).isEqualTo(UserTest.SANJIGI);
+        assertThat(newAnswer.getQuestion()).isEqualTo(question);
+        assertThat(question.getAnswers().getValues()).doesNotContain(newAnswer);
+    }
+
+    @Test
+    void addAnswer_없는_질문() {
+        when(questionRepository.increaseAnswerCount(question.getId())).thenReturn(0);
+
+        assertThatThrownBy(() -> qnaService.addAnswer(UserTest.SANJIGI, question.getId(), "Answers Contents2"))
+                .isInstanceOf(NotFoundException.class);
+        verify(answerRepository, never()).save(any());
+    }
+
+    @Test
+    void addAnswer_손님() {
+        assertThatThrownBy(() -> qnaService.addAnswer(User.GUEST_USER, question.getId(), "Answers Contents2"))
+                .isInstanceOf(UnAuthorizedException.class);
+    }
+
     @Test
     void delete_답변_중_다른_사람이_쓴_글() {
         Answer answer2 = new Answer(2L, UserTest.SANJIGI, QuestionTest.Q1, "Answers Contents1");
@@ -88,6 +136,115 @@ class QnaServiceTest {
                 .isInstanceOf(CannotDeleteException.class);
     }
 
+    @Test
+    void delete_일괄_성공() {
+        when(questionRepository.findByIdAndDeletedFalse(question.getId())).thenReturn(Optional.of(question));
+        when(answerRepository.existsByQuestionIdAndDeletedFalseAndWriterNot(question.getId(), UserTest.JAVAJIGI))
+                .thenReturn(false);
+        when(answerRepository.findIdsByQuestionIdAndDeletedFalse(question.getId()))
+                .thenReturn(Arrays.asList(answer.getId()));
+        when(answerRepository.softDeleteAllByIdIn(eq(Arrays.asList(answer.getId())), any(LocalDateTime.class)))
+                .thenReturn(1);
+        when(questionRepository.softDeleteById(eq(question.getId()), eq(question.getVersion()), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        qnaService.deleteQuestionInBulk(UserTest.JAVAJIGI, question.getId());
+
+        verify(answerRepository).softDeleteAllByIdIn(eq(Arrays.asList(answer.getId())), any(LocalDateTime.class));
+        verify(questionRepository).decreaseAnswerCount(question.getId(), 1);
+        verify(applicationEventPublisher).publishEvent(QuestionChangedEvent.of(question.getId()));
+        verifyDeleteHistories();
+    }
+
+    @Test
+    void delete_일괄_조회_후_답변이_먼저_삭제됨() {
+        Answer answer2 = new Answer(2L, UserTest.JAVAJIGI, question, "Answers Contents2");
+        when(questionRepository.findByIdAndDeletedFalse(question.getId())).thenReturn(Optional.of(question));
+        when(answerRepository.existsByQuestionIdAndDeletedFalseAndWriterNot(question.getId(), UserTest.JAVAJIGI))
+                .thenReturn(false);
+        when(answerRepository.findIdsByQuestionIdAndDeletedFalse(question.getId()))
+                .thenReturn(Arrays.asList(answer.getId(), answer2.getId()));
+        when(answerRepository.softDeleteAllByIdIn(eq(Arrays.asList(answer.getId(), answer2.getId())),
+                                                  any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        assertThatThrownBy(() -> qnaService.deleteQuestionInBulk(UserTest.JAVAJIGI, question.getId()))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verify(questionRepository, never()).decreaseAnswerCount(any(), anyInt());
+        verify(deleteHistoryService, never()).saveAll(any());
+    }
+
+    @Test
+    void delete_일괄_조회_후_version_변경() {
+        when(questionRepository.findByIdAndDeletedFalse(question.getId())).thenReturn(Optional.of(question));
+        when(answerRepository.existsByQuestionIdAndDeletedFalseAndWriterNot(question.getId(), UserTest.JAVAJIGI))
+                .thenReturn(false);
+        when(questionRepository.softDeleteById(eq(question.getId()), eq(question.getVersion()), any(LocalDateTime.class)))
+                .thenReturn(0);
+        when(questionRepository.existsByIdAndDeletedFalse(question.getId())).thenReturn(true);
+
+        assertThatThrownBy(() -> qnaService.deleteQuestionInBulk(UserTest.JAVAJIGI, question.getId()))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verify(deleteHistoryService, never()).saveAll(any());
+    }
+
+    @Test
+    void delete_일괄_이미_삭제된_질문() {
+        when(questionRepository.findByIdAndDeletedFalse(question.getId())).thenReturn(Optional.of(question));
+        when(answerRepository.existsByQuestionIdAndDeletedFalseAndWriterNot(question.getId(), UserTest.JAVAJIGI))
+                .thenReturn(false);
+        when(questionRepository.softDeleteById(eq(question.getId()), eq(question.getVersion()), any(LocalDateTime.class)))
+                .thenReturn(0);
+        when(questionRepository.existsByIdAndDeletedFalse(question.getId())).thenReturn(false);
+
+        assertThatThrownBy(() -> qnaService.deleteQuestionInBulk(UserTest.JAVAJIGI, question.getId()))
+                .isInstanceOf(NotFoundException.class);
+        verify(deleteHistoryService, never()).saveAll(any());
+    }
+
+    @Test
+    void delete_일괄_다른_사람이_쓴_글() {
+        when(questionRepository.findByIdAndDeletedFalse(question.getId())).thenReturn(Optional.of(question));
+
+        assertThatThrownBy(() -> qnaService.deleteQuestionInBulk(UserTest.SANJIGI, question.getId()))
+                .isInstanceOf(CannotDeleteException.class);
+        verify(answerRepository, never()).softDeleteAllByIdIn(any(), any());
+    }
+
+    @Test
+    void delete_일괄_답변_중_다른_사람이_쓴_글() {
+        when(questionRepository.findByIdAndDeletedFalse(question.getId())).thenReturn(Optional.of(question));
+        when(answerRepository.existsByQuestionIdAndDeletedFalseAndWriterNot(question.getId(), UserTest.JAVAJIGI))
+                .thenReturn(true);
+
+        assertThatThrownBy(() -> qnaService.deleteQuestionInBulk(UserTest.JAVAJIGI, question.getId()))
+                .isInstanceOf(CannotDeleteException.class);
+        verify(answerRepository, never()).softDeleteAllByIdIn(any(), any());
+        verify(questionRepository, never()).softDeleteById(any(), anyLong(), any());
+    }
+
+    @Test
+    void findQuestions_다음_페이지_커서() {
+        Question question2 = new Question(2L, "title2", "contents2").writeBy(UserTest.JAVAJIGI);
+        when(questionRepository.findFirstPage(PageRequest.of(0, 2))).thenReturn(Arrays.asList(question2, question));
+
+        CursorPage<Question> page = qnaService.findQuestions(null, 1);
+
+        assertThat(page.getContent()).containsExactly(question2);
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @Test
+    void findQuestions_페이지_크기_제한() {
+        when(questionRepository.findFirstPage(PageRequest.of(0, QnaService.MAX_PAGE_SIZE + 1)))
+                .thenReturn(Arrays.asList(question));
+
+        CursorPage<Question> page = qnaService.findQuestions(null, Integer.MAX_VALUE);
+
+        assertThat(page.getContent()).containsExactly(question);
+        assertThat(page.hasNext()).isFalse();
+    }
+
     private void verifyDeleteHistories() {
         List<DeleteHistory> deleteHistories = Arrays.asList(
                 new DeleteHistory(ContentType.QUESTION, question.getId(), question.getWriter(), LocalDateTime.now()),
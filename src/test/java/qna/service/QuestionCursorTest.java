@@ -0,0 +1,35 @@
+package qna.service;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuestionCursorTest {
+    @Test
+    @DisplayName("커서를 토큰으로 인코딩하고 다시 디코딩하면 같은 커서가 된다.")
+    void encodeAndDecode() {
+        // given
+        QuestionCursor cursor = new QuestionCursor(LocalDateTime.of(2022, 5, 1, 12, 30, 15, 123456000), 42L);
+
+        // when
+        QuestionCursor decoded = QuestionCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰을 디코딩하면 예외가 발생한다.")
+    void thrownByInvalidToken() {
+        // when
+        ThrowableAssert.ThrowingCallable throwingCallable = () -> QuestionCursor.decode("not-a-cursor");
+
+        // then
+        assertThatThrownBy(throwingCallable).isInstanceOf(IllegalArgumentException.class);
+    }
+}
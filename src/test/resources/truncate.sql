@@ -1,10 +1,10 @@
 SET REFERENTIAL_INTEGRITY FALSE;
-TRUNCATE TABLE user RESTART IDENTITY;
-ALTER TABLE user ALTER COLUMN ID RESTART WITH 1;
-TRUNCATE TABLE question RESTART IDENTITY;
-ALTER TABLE question ALTER COLUMN ID RESTART WITH 1;
-TRUNCATE TABLE answer RESTART IDENTITY;
-ALTER TABLE answer ALTER COLUMN ID RESTART WITH 1;
-TRUNCATE TABLE delete_history RESTART IDENTITY;
-ALTER TABLE delete_history ALTER COLUMN ID RESTART WITH 1;
+TRUNCATE TABLE user;
+TRUNCATE TABLE question;
+TRUNCATE TABLE answer;
+TRUNCATE TABLE delete_history;
+TRUNCATE TABLE purge_job;
+TRUNCATE TABLE purge_chunk;
+TRUNCATE TABLE question_archive;
+TRUNCATE TABLE answer_archive;
 SET REFERENTIAL_INTEGRITY TRUE;